@@ -0,0 +1,47 @@
+package com.example.tickettoride.benchmarks;
+
+import com.example.tickettoride.engine.GameEngine;
+import com.example.tickettoride.engine.GameRandom;
+import com.example.tickettoride.engine.Move;
+
+/**
+ * BenchmarkGames class
+ * Seeded games for the benchmarks to start from, so every run measures the same positions
+ */
+final class BenchmarkGames
+{
+    private BenchmarkGames()
+    {
+    }
+
+    //Plays random moves from a new two player game until the given turn, stopping at the start of a turn
+    static GameEngine playTo(long seed, int turn)
+    {
+        GameEngine game = new GameEngine(2, seed);
+        GameRandom random = new GameRandom(seed);
+        int[] buffer = new int[Move.MAX_LEGAL_MOVES];
+        while (!game.isGameOver() && (game.getTurnNumber() < turn || game.getPhase() != GameEngine.PHASE_START))
+        {
+            int count = game.legalMoves(buffer);
+            if (count == 0)
+            {
+                break;
+            }
+            //Applied rather than made, so the benchmarks start with no undo frames held
+            game.applyMove(buffer[random.nextInt(count)]);
+        }
+        return game;
+    }
+
+    //Makes one random legal move in place, false if there is none
+    static boolean playRandomMove(GameEngine game, GameRandom random, int[] buffer)
+    {
+        int count = game.legalMoves(buffer);
+        if (count == 0)
+        {
+            return false;
+        }
+        game.make(buffer[random.nextInt(count)]);
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.tickettoride.benchmarks;
+
+import com.example.tickettoride.engine.GameEngine;
+import com.example.tickettoride.engine.GameRandom;
+import com.example.tickettoride.engine.Move;
+import com.example.tickettoride.engine.TransportationDeck;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DeckBenchmark class
+ * Drawing transportation cards, with every card discarded again so the deck keeps cycling through
+ * its reshuffles, and drawing destination tickets. The tickets live in the engine, the old
+ * DestinationCardDeck never fills its list, so a ticket draw is measured as the engine making
+ * and unmaking the draw move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark
+{
+    private TransportationDeck deck;
+    private GameEngine engine;
+    private final int drawTickets = Move.drawTickets();
+
+    @Setup
+    public void setUp()
+    {
+        deck = new TransportationDeck(new GameRandom(1));
+        engine = BenchmarkGames.playTo(1, 0);
+    }
+
+    @Benchmark
+    public int transportationDrawAndDiscard()
+    {
+        int card = deck.draw();
+        deck.discard(card);
+        return card;
+    }
+
+    //Draws a whole hand's worth of cards, then discards them, so the draw pile runs out and reshuffles
+    @Benchmark
+    public int transportationDrawTen()
+    {
+        int total = 0;
+        int[] drawn = new int[10];
+        for (int i = 0; i < drawn.length; i++)
+        {
+            drawn[i] = deck.draw();
+            total += drawn[i];
+        }
+        for (int card : drawn)
+        {
+            deck.discard(card);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int destinationTicketDraw()
+    {
+        engine.make(drawTickets);
+        int ticket = engine.getPendingTicket(0);
+        engine.unmake(drawTickets);
+        return ticket;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.tickettoride.benchmarks;
+
+import com.example.tickettoride.engine.GameEngine;
+import com.example.tickettoride.engine.GameRandom;
+import com.example.tickettoride.engine.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameBenchmark class
+ * A whole two player game of random moves: once from a new engine, which includes dealing, and
+ * once as a search bot plays it, made in place from a copy of the start and unmade afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark
+{
+    //Guards against a game that never ends, far more moves than a random game needs
+    private static final int MAX_MOVES = 1000;
+
+    private final GameRandom random = new GameRandom(11);
+    private final int[] buffer = new int[Move.MAX_LEGAL_MOVES];
+    private GameEngine start;
+    private long seed;
+
+    @Setup
+    public void setUp()
+    {
+        start = new GameEngine(2, 11);
+    }
+
+    @Benchmark
+    public int fullGame()
+    {
+        GameEngine game = new GameEngine(2, seed++);
+        playOut(game);
+        return game.getPlayer(0).getScore();
+    }
+
+    @Benchmark
+    public int playoutInPlace()
+    {
+        playOut(start);
+        int score = start.getPlayer(0).getScore();
+        start.unmakeTo(0);
+        return score;
+    }
+
+    private void playOut(GameEngine game)
+    {
+        for (int moves = 0; moves < MAX_MOVES && !game.isGameOver(); moves++)
+        {
+            if (!BenchmarkGames.playRandomMove(game, random, buffer))
+            {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.tickettoride.benchmarks;
+
+import com.example.tickettoride.engine.GameEngine;
+import com.example.tickettoride.engine.Move;
+import com.example.tickettoride.engine.RouteGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MoveGenerationBenchmark class
+ * Working out what the current player may do: every legal move, the mask of routes still open to
+ * them that the board highlights, and the best way to pay for each route as the route popup does.
+ * Measured early in the game, when most routes are open, and later on when the hands are fuller.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGenerationBenchmark
+{
+    @Param({"2", "12"})
+    public int turn;
+
+    private GameEngine game;
+    private final int[] buffer = new int[Move.MAX_LEGAL_MOVES];
+    private int routeCount;
+
+    @Setup
+    public void setUp()
+    {
+        game = BenchmarkGames.playTo(7, turn);
+        routeCount = RouteGraph.NEW_YORK.routeCount();
+    }
+
+    @Benchmark
+    public int legalMoves()
+    {
+        return game.legalMoves(buffer);
+    }
+
+    @Benchmark
+    public long claimableRoutes()
+    {
+        return game.getClaimableRoutes();
+    }
+
+    @Benchmark
+    public int bestClaimMoves()
+    {
+        int total = 0;
+        for (int route = 0; route < routeCount; route++)
+        {
+            total += game.bestClaimMove(route);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.tickettoride.benchmarks;
+
+import com.example.tickettoride.Player;
+import com.example.tickettoride.engine.CardColor;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlayerBenchmark class
+ * Adding a card to a player's hand and taking it back out, by the JavaFX Color the UI passes and
+ * by CardColor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark
+{
+    private Player player;
+
+    @Setup
+    public void setUp()
+    {
+        player = new Player();
+    }
+
+    @Benchmark
+    public Player incrementPlayerHandValueByColor()
+    {
+        player.incrementPlayerHandValue(Color.RED, 1);
+        player.incrementPlayerHandValue(Color.RED, -1);
+        return player;
+    }
+
+    @Benchmark
+    public Player incrementPlayerHandValueByCardColor()
+    {
+        player.incrementPlayerHandValue(CardColor.RED, 1);
+        player.incrementPlayerHandValue(CardColor.RED, -1);
+        return player;
+    }
+}
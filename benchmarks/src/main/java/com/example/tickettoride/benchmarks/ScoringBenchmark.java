@@ -0,0 +1,102 @@
+package com.example.tickettoride.benchmarks;
+
+import com.example.tickettoride.Player;
+import com.example.tickettoride.Scoring;
+import com.example.tickettoride.engine.RouteGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScoringBenchmark class
+ * Route values looked up by id and by name, and a player's route score from a route mask, from
+ * route ids and from the old route name strings. The player owns every third route.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark
+{
+    private final RouteGraph graph = RouteGraph.NEW_YORK;
+    private final Scoring scoring = new Scoring(graph);
+    private Player player;
+    private long routeMask;
+    private int[] routeIds;
+    private List<String> routeNames;
+
+    @Setup
+    public void setUp()
+    {
+        player = new Player();
+        List<Integer> ids = new ArrayList<>();
+        routeNames = new ArrayList<>();
+        for (int route = 0; route < graph.routeCount(); route += 3)
+        {
+            routeMask |= 1L << route;
+            ids.add(route);
+            routeNames.add(graph.routeName(route));
+        }
+        routeIds = ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    //Sums the value of every route on the board
+    @Benchmark
+    public int calcRouteScoreById()
+    {
+        int total = 0;
+        for (int route = 0; route < graph.routeCount(); route++)
+        {
+            total += scoring.calcRouteScore(route);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int calcRouteScoreByName()
+    {
+        int total = 0;
+        for (String name : routeNames)
+        {
+            total += scoring.calcRouteScore(name);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int calculatePlayerScoreFromMask()
+    {
+        player.setScore(0);
+        scoring.calculatePlayerScore(player, routeMask);
+        return player.getScore();
+    }
+
+    @Benchmark
+    public int calculatePlayerScoreFromIds()
+    {
+        player.setScore(0);
+        scoring.calculatePlayerScore(player, routeIds);
+        return player.getScore();
+    }
+
+    @Benchmark
+    public int calculatePlayerScoreFromNames()
+    {
+        player.setScore(0);
+        scoring.calculatePlayerScore(player, routeNames);
+        return player.getScore();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.tickettoride;
+
+import com.example.tickettoride.engine.BoardDefinition;
+import javafx.concurrent.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AssetPreloader class
+ * Decodes the map and every card image on the BackgroundTasks CPU pool while the splash and player
+ * selection screens are showing. Images go into ImageCache.SHARED at the same sizes the game
+ * asks for them, so the game screen and the first card draws find them already decoded.
+ * Progress goes from 0 to 1 as images finish; the value of the task is the number of images
+ * that failed to load, which are then simply loaded on demand like before.
+ */
+public class AssetPreloader extends Task<Integer>
+{
+    //Card back images
+    public static final String TRANSPORTATION_CARD_BACK = BoardDefinition.NEW_YORK.getTransportationBackPath();
+    public static final String DESTINATION_CARD_BACK = BoardDefinition.NEW_YORK.getDestinationBackPath();
+
+    //Resource path, width and height of an image to decode, a size of 0 means the image's own size
+    private record Asset(String path, double width, double height) {}
+
+    private final ImageCache cache;
+    //Decodes the images, image decoding is CPU bound so this is a pool of at most one thread per core
+    private final ExecutorService executor;
+    private final List<Asset> assets = new ArrayList<>();
+
+    public AssetPreloader()
+    {
+        this(ImageCache.SHARED, BackgroundTasks.SHARED.cpuExecutor());
+    }
+
+    public AssetPreloader(ImageCache cache, ExecutorService executor)
+    {
+        this.cache = cache;
+        this.executor = executor;
+        assets.add(new Asset(Board.MAP_IMAGE_PATH, Board.BOARD_WIDTH, Board.BOARD_HEIGHT));
+        for (String path : RandomImages.CARDIMAGEPATHS)
+        {
+            //Full size for the drawn card, own size for the thumbnails in the players hand
+            assets.add(new Asset(path, RandomImages.CARD_IMAGE_WIDTH, RandomImages.CARD_IMAGE_HEIGHT));
+            assets.add(new Asset(path, 0, 0));
+        }
+        for (String path : RandomImages.CardImagePath)
+        {
+            assets.add(new Asset(path, RandomImages.CARD_IMAGE_WIDTH, RandomImages.CARD_IMAGE_HEIGHT));
+        }
+        assets.add(new Asset(TRANSPORTATION_CARD_BACK, RandomImages.CARD_IMAGE_WIDTH, RandomImages.CARD_IMAGE_HEIGHT));
+        assets.add(new Asset(DESTINATION_CARD_BACK, RandomImages.CARD_IMAGE_WIDTH, RandomImages.CARD_IMAGE_HEIGHT));
+    }
+
+    //Starts preloading on a virtual thread, which never keeps the application open
+    //The task itself only waits for the decoders, so it needs no thread of the pool
+    public void start()
+    {
+        Thread.ofVirtual().name("asset-preloader").start(this);
+    }
+
+    @Override
+    protected Integer call() throws Exception
+    {
+        AtomicInteger done = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        updateProgress(0, assets.size());
+        List<Future<?>> futures = new ArrayList<>();
+        try
+        {
+            for (Asset asset : assets)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    if (!isCancelled())
+                    {
+                        try
+                        {
+                            cache.get(asset.path(), asset.width(), asset.height());
+                        }
+                        catch (RuntimeException e)
+                        {
+                            //A missing image shouldn't stop the rest from loading
+                            failed.incrementAndGet();
+                            System.out.println("Failed to preload " + asset.path() + ": " + e.getMessage());
+                        }
+                    }
+                    updateProgress(done.incrementAndGet(), assets.size());
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            //The pool is shared, so only this task's unfinished images are called off
+            for (Future<?> future : futures)
+            {
+                future.cancel(false);
+            }
+        }
+        updateMessage("Loaded " + (assets.size() - failed.get()) + " of " + assets.size() + " images");
+        return failed.get();
+    }
+
+    //Number of images the preloader decodes
+    public int getAssetCount()
+    {
+        return assets.size();
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.tickettoride;
+
+import javafx.application.Platform;
+
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * BackgroundTasks class
+ * Keeps slow work off the JavaFX Application Thread so the board never freezes. There are three lanes:
+ * - I/O jobs (saving, loading, reading replays) each get a virtual thread, which costs next to
+ *   nothing while it waits on the disk
+ * - Ordered I/O jobs (the journal of the game being played) run one at a time on a single virtual
+ *   thread, in the order they were submitted, so each one sees the files as the last one left them
+ * - CPU jobs (computer players thinking, decoding images) share a pool with one thread per core
+ *   but one, so they can't crowd out the FX thread however many are queued
+ * Finished jobs queue their results, and one runLater hands over everything that finished since
+ * the last one, so a burst of results costs the FX thread a single pulse instead of one each.
+ * A job is given a CancellationToken; once it is cancelled its result is dropped, so a job started
+ * for a game that has since been replaced can never touch the new one.
+ */
+public final class BackgroundTasks
+{
+    //Tasks used by the whole game
+    public static final BackgroundTasks SHARED = new BackgroundTasks(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    //How long shutdown waits for ordered I/O jobs still queued, e.g. the last journal sync
+    private static final long ORDERED_IO_SHUTDOWN_MILLIS = 2000;
+
+    /**
+     * Job interface
+     * Work to do in the background, it should check the token between steps if it runs long
+     */
+    @FunctionalInterface
+    public interface Job<T>
+    {
+        T run(CancellationToken token) throws Exception;
+    }
+
+    private final ExecutorService ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService orderedIoExecutor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("background-ordered-io").factory());
+    private final ThreadPoolExecutor cpuExecutor;
+    //Results waiting for the FX thread, and whether a runLater to deliver them is already on its way
+    private final Queue<Runnable> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+
+    public BackgroundTasks(int cpuThreads)
+    {
+        if (cpuThreads < 1)
+        {
+            throw new IllegalArgumentException("Need at least one thread for CPU work, not " + cpuThreads);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        cpuExecutor = new ThreadPoolExecutor(cpuThreads, cpuThreads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable ->
+        {
+            Thread thread = new Thread(runnable, "background-cpu-" + threadNumber.incrementAndGet());
+            //Never keeps the application open, and stays behind the FX thread for the CPU
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+    }
+
+    //Runs a job that mostly waits on files or the network, on a virtual thread of its own
+    public <T> CancellationToken io(Job<T> job, Consumer<? super T> onSuccess, Consumer<? super Exception> onFailure)
+    {
+        return submit(ioExecutor, job, onSuccess, onFailure);
+    }
+
+    //Runs a job that writes files, after every ordered I/O job submitted before it has finished
+    public <T> CancellationToken orderedIo(Job<T> job, Consumer<? super T> onSuccess, Consumer<? super Exception> onFailure)
+    {
+        return submit(orderedIoExecutor, job, onSuccess, onFailure);
+    }
+
+    //Runs a job that keeps a core busy, on the bounded CPU pool
+    public <T> CancellationToken cpu(Job<T> job, Consumer<? super T> onSuccess, Consumer<? super Exception> onFailure)
+    {
+        return submit(cpuExecutor, job, onSuccess, onFailure);
+    }
+
+    //The CPU pool, for work split into many small pieces that the caller waits on itself
+    public ExecutorService cpuExecutor()
+    {
+        return cpuExecutor;
+    }
+
+    private <T> CancellationToken submit(ExecutorService executor, Job<T> job, Consumer<? super T> onSuccess, Consumer<? super Exception> onFailure)
+    {
+        CancellationToken token = new CancellationToken();
+        token.setFuture(executor.submit(() ->
+        {
+            if (token.isCancelled())
+            {
+                return;
+            }
+            try
+            {
+                T result = job.run(token);
+                deliver(token, () -> onSuccess.accept(result));
+            }
+            catch (CancellationException | InterruptedException e)
+            {
+                //Called off, nobody is waiting for the result
+            }
+            catch (Exception e)
+            {
+                deliver(token, () -> onFailure.accept(e));
+            }
+        }));
+        return token;
+    }
+
+    //Queues a result for the FX thread, scheduling a delivery unless one is already pending
+    private void deliver(CancellationToken token, Runnable callback)
+    {
+        finished.add(() ->
+        {
+            //Cancelled while the result was waiting, e.g. the game it was for has been replaced
+            if (!token.isCancelled())
+            {
+                callback.run();
+            }
+        });
+        if (deliveryScheduled.compareAndSet(false, true))
+        {
+            Platform.runLater(this::deliverFinished);
+        }
+    }
+
+    //Runs every queued result in one go on the FX thread
+    private void deliverFinished()
+    {
+        //Cleared first, so a result queued while these run gets a delivery of its own
+        deliveryScheduled.set(false);
+        Runnable callback;
+        while ((callback = finished.poll()) != null)
+        {
+            try
+            {
+                callback.run();
+            }
+            catch (RuntimeException e)
+            {
+                //One bad callback shouldn't keep the others from running
+                System.out.println("A background task's result could not be handled: " + e);
+            }
+        }
+    }
+
+    /**
+     * Stops the lanes, interrupting running jobs and dropping queued ones
+     * Ordered I/O jobs already submitted are given a moment to finish first, so the journal of the
+     * game being played is synced before the application exits.
+     */
+    public void shutdown()
+    {
+        orderedIoExecutor.shutdown();
+        try
+        {
+            orderedIoExecutor.awaitTermination(ORDERED_IO_SHUTDOWN_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        orderedIoExecutor.shutdownNow();
+        ioExecutor.shutdownNow();
+        cpuExecutor.shutdownNow();
+    }
+}
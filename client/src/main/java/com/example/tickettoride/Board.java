@@ -1,10 +1,9 @@
 package com.example.tickettoride;
+import com.example.tickettoride.engine.BoardDefinition;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 
-import java.io.File;
-
 /**
  * Board class
  * This class will contain logic for displaying and/or updating the board and map of the game
@@ -12,9 +11,11 @@ import java.io.File;
  */
 public class Board extends StackPane
 {
-    //Constants for display width and height
-    private static final int BOARD_WIDTH = 1000;
-    private static final int BOARD_HEIGHT = 800;
+    //Constants for display width and height, as given by the board file
+    public static final int BOARD_WIDTH = BoardDefinition.NEW_YORK.getMapWidth();
+    public static final int BOARD_HEIGHT = BoardDefinition.NEW_YORK.getMapHeight();
+    //Classpath location of the map image
+    public static final String MAP_IMAGE_PATH = BoardDefinition.NEW_YORK.getMapImagePath();
 
     //Gets and sets the image using try/catch to ensure success without crash
     public ImageView getTicketToRideImage()
@@ -22,10 +23,8 @@ public class Board extends StackPane
         ImageView ticketToRideImageView = new ImageView();
         try
         {
-            // Load the image from a file
-            File imageFile = new File("src/main/resources/com/example/tickettoride/Game_Map_v2.png");
-            String imageUrl = imageFile.toURI().toURL().toString();
-            Image ticketToRideImage = new Image(imageUrl, BOARD_WIDTH, BOARD_HEIGHT, true, false);
+            // Load the image, it is only decoded the first time
+            Image ticketToRideImage = ImageCache.SHARED.get(MAP_IMAGE_PATH, BOARD_WIDTH, BOARD_HEIGHT);
 
             // Set the image in the ImageView
             ticketToRideImageView.setImage(ticketToRideImage);
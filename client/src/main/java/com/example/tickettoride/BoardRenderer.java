@@ -0,0 +1,26 @@
+package com.example.tickettoride;
+
+import com.example.tickettoride.engine.GameState;
+import javafx.scene.Node;
+
+import java.util.function.IntConsumer;
+
+/**
+ * BoardRenderer interface
+ * Something that shows the map with its routes and reports clicks on routes by route id.
+ * HighlightRoutes does this with one node per route, CanvasBoardRenderer draws onto a Canvas.
+ */
+public interface BoardRenderer
+{
+    //Returns the node showing the board, building it the first time
+    Node getOverlay();
+
+    //Brings the board up to date with the game
+    void update(GameState state);
+
+    //Sets the action to run with the route id when the user clicks on a route
+    void setOnRouteClicked(IntConsumer routeClickHandler);
+
+    //Stops the board's pulse animation and lets go of its nodes, for a board that is being replaced
+    void dispose();
+}
@@ -0,0 +1,52 @@
+package com.example.tickettoride;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+
+/**
+ * CancellationToken class
+ * Handed to every background job, and returned to whoever started it, so either side can call the
+ * job off. Long jobs check it between steps; cancelling also interrupts the job's thread, which
+ * stops blocking I/O, and the job's result is thrown away instead of reaching the FX thread.
+ */
+public final class CancellationToken
+{
+    private volatile boolean cancelled;
+    //The running job, interrupted on cancel, set once the job has been handed to its executor
+    private volatile Future<?> future;
+
+    //Calls the job off, does nothing if it has already finished or been cancelled
+    public void cancel()
+    {
+        cancelled = true;
+        Future<?> running = future;
+        if (running != null)
+        {
+            running.cancel(true);
+        }
+    }
+
+    public boolean isCancelled()
+    {
+        return cancelled;
+    }
+
+    //Stops a job at a convenient point once it has been cancelled
+    public void throwIfCancelled()
+    {
+        if (cancelled)
+        {
+            throw new CancellationException();
+        }
+    }
+
+    void setFuture(Future<?> future)
+    {
+        this.future = future;
+        //Cancelled before it was even submitted
+        if (cancelled)
+        {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.tickettoride;
+
+import com.example.tickettoride.engine.BoardDefinition;
+import com.example.tickettoride.engine.GameEngine;
+import com.example.tickettoride.engine.GameState;
+import com.example.tickettoride.engine.RouteShape;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * CanvasBoardRenderer class
+ * Draws the map and the routes onto two Canvas layers instead of one node per route.
+ * The bottom layer has the map and the claimed routes, the top layer has the routes the current
+ * player can claim and pulses as a whole. Both are only redrawn when update finds a change,
+ * and clicks are matched to routes through a RouteHitIndex.
+ */
+public class CanvasBoardRenderer implements BoardRenderer
+{
+    //Highlight color of the routes that can be claimed, the same as HighlightRoutes
+    private static final Color HIGHLIGHT_COLOR = Color.YELLOW;
+
+    //The players in seat order, used for the colors of claimed routes
+    private final List<Player> players;
+    private final RouteShape[] shapes;
+    private final RouteHitIndex hitIndex;
+    private final Canvas boardCanvas = new Canvas(Board.BOARD_WIDTH, Board.BOARD_HEIGHT);
+    private final Canvas highlightCanvas = new Canvas(Board.BOARD_WIDTH, Board.BOARD_HEIGHT);
+    private final StackPane overlay = new StackPane(boardCanvas, highlightCanvas);
+    private final RoutePulse routePulse = new RoutePulse();
+    private final GameState state;
+
+    //Owner and highlight each route was last drawn with
+    private final int[] shownOwner;
+    private final boolean[] shownHighlight;
+    private boolean drawn;
+    private IntConsumer routeClickHandler;
+
+    public CanvasBoardRenderer(GameState state, List<Player> players)
+    {
+        this.state = state;
+        this.players = players;
+        this.shapes = BoardDefinition.NEW_YORK.getRouteShapes();
+        this.hitIndex = new RouteHitIndex(shapes, Board.BOARD_WIDTH, Board.BOARD_HEIGHT);
+        this.shownOwner = new int[shapes.length];
+        this.shownHighlight = new boolean[shapes.length];
+        Arrays.fill(shownOwner, GameEngine.NONE);
+
+        //The top layer covers the whole board, so its coordinates are the map's coordinates
+        highlightCanvas.setOnMouseClicked(event ->
+        {
+            //Only highlighted routes can be clicked, like the hidden rectangles of HighlightRoutes
+            int route = hitIndex.routeAt(event.getX(), event.getY(), r -> shownHighlight[r]);
+            if (route >= 0 && routeClickHandler != null)
+            {
+                routeClickHandler.accept(route);
+            }
+        });
+    }
+
+    @Override
+    public StackPane getOverlay()
+    {
+        update(state);
+        return overlay;
+    }
+
+    @Override
+    public void update(GameState state)
+    {
+        boolean ownersChanged = !drawn;
+        boolean highlightChanged = !drawn;
+        long claimable = state.getClaimableRoutes();
+        for (int route = 0; route < shapes.length; route++)
+        {
+            int owner = state.getRouteOwner(route);
+            if (owner != shownOwner[route])
+            {
+                shownOwner[route] = owner;
+                ownersChanged = true;
+            }
+            boolean highlight = (claimable & (1L << route)) != 0;
+            if (highlight != shownHighlight[route])
+            {
+                shownHighlight[route] = highlight;
+                highlightChanged = true;
+            }
+        }
+        drawn = true;
+
+        if (ownersChanged)
+        {
+            drawBoard();
+        }
+        if (highlightChanged)
+        {
+            drawHighlights();
+        }
+    }
+
+    @Override
+    public void setOnRouteClicked(IntConsumer routeClickHandler)
+    {
+        this.routeClickHandler = routeClickHandler;
+    }
+
+    //Stops the pulse timer, which would otherwise keep the board and its scene alive
+    @Override
+    public void dispose()
+    {
+        routePulse.clear();
+        routeClickHandler = null;
+    }
+
+    //Draws the map with the claimed routes in their owners' colors
+    private void drawBoard()
+    {
+        GraphicsContext graphics = boardCanvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, boardCanvas.getWidth(), boardCanvas.getHeight());
+        graphics.drawImage(ImageCache.SHARED.get(Board.MAP_IMAGE_PATH, Board.BOARD_WIDTH, Board.BOARD_HEIGHT), 0, 0);
+        for (int route = 0; route < shapes.length; route++)
+        {
+            if (shownOwner[route] != GameEngine.NONE)
+            {
+                fillRoute(graphics, shapes[route], players.get(shownOwner[route]).getPlayerColor());
+            }
+        }
+    }
+
+    //Draws the routes the current player can claim, the layer pulses only while it has any
+    private void drawHighlights()
+    {
+        GraphicsContext graphics = highlightCanvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, highlightCanvas.getWidth(), highlightCanvas.getHeight());
+        boolean any = false;
+        for (int route = 0; route < shapes.length; route++)
+        {
+            if (shownHighlight[route])
+            {
+                fillRoute(graphics, shapes[route], HIGHLIGHT_COLOR);
+                any = true;
+            }
+        }
+        if (any)
+        {
+            routePulse.add(highlightCanvas);
+        }
+        else
+        {
+            routePulse.remove(highlightCanvas);
+        }
+    }
+
+    //Fills a route's rectangle, rotated around its center like the rectangle nodes
+    private static void fillRoute(GraphicsContext graphics, RouteShape shape, Color color)
+    {
+        graphics.save();
+        graphics.translate(shape.centerX(), shape.centerY());
+        graphics.rotate(shape.rotation());
+        graphics.setFill(color);
+        graphics.fillRect(-shape.width() / 2, -shape.height() / 2, shape.width(), shape.height());
+        graphics.restore();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.tickettoride;
+
+import com.example.tickettoride.engine.BoardDefinition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Destinations class
+ * This class will contain logic for the destinations and/or the destination cards
+ */
+public class DestinationCard
+{
+
+    //-------------------  array of card images ---------------------\\
+    public static final String[] CardImagePath = BoardDefinition.NEW_YORK.getTicketImagePaths();
+    private final String CITY1;
+    private final String CITY2;
+    private final int POINTS;
+    ArrayList<DestinationCard> card;
+
+    public DestinationCard()
+    {
+        CITY1 = "Lincoln Center";
+        CITY2 = "Central Park";
+        POINTS = 2;
+        card = new ArrayList<>();
+    }
+
+    public DestinationCard(String city1, String city2, int points)
+    {
+        this.CITY1 = city1;
+        this.CITY2 = city2;
+        this.POINTS = points;
+        card = new ArrayList<>();
+    }
+
+    public static List<DestinationCard> drawDestinationCards(int numCards)
+    {
+        if (DestinationCard.CardImagePath.length < numCards)
+        {
+            // Handle the case where there are not enough cards in the deck
+            System.out.println("Not enough destination cards in the deck!");
+            return Collections.emptyList();
+        }
+
+        return new ArrayList<>();
+    }
+
+    public DestinationCard getCities()
+    {
+        return null;
+    }
+
+    public String getCITY1()
+    {
+        return CITY1;
+    }
+
+    public String getCITY2()
+    {
+        return CITY2;
+    }
+
+    public void testingMethod()
+    {
+        System.out.println("This is a test" + getCITY1() + getCITY2());
+    }
+
+    public int getPoints()
+    {
+        return POINTS;
+    }
+
+    //string that displays the two destinations on the card as well as value of the route
+    public String toString()
+    {
+        return CITY1 + " to " + CITY2 + " for " + POINTS + " points";
+    }
+
+    public void removeCardFromDeck()
+    {
+
+    }
+}
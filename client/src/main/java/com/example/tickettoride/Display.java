@@ -1,5 +1,7 @@
 package com.example.tickettoride;
 
+import com.example.tickettoride.engine.CardColor;
+import com.example.tickettoride.engine.Hand;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Label;
 import javafx.scene.control.Separator;
@@ -7,12 +9,9 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 import javafx.scene.layout.HBox;
-import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import java.io.File;
-import java.util.Map;
-import java.util.Objects;
 
 public class Display
 {
@@ -100,21 +99,19 @@ public class Display
         {
             if (i == 0)
             {
-                for (Map.Entry<Color, Integer> entry : currentPlayers.get(i).getPlayerHandMap().entrySet())
+                Hand hand = currentPlayers.get(i).getHand();
+                for (int color = 0; color < CardColor.COUNT; color++)
                 {
-                    Color color = entry.getKey();
-                    int value = entry.getValue();
-                    Text text = new Text(Integer.toString(value));
+                    Text text = new Text(Integer.toString(hand.count(color)));
                     valueImageHBoxP1.getChildren().add(text);
                 }
             }
             else if (i == 1)
             {
-                for (Map.Entry<Color, Integer> entry : currentPlayers.get(i).getPlayerHandMap().entrySet())
+                Hand hand = currentPlayers.get(i).getHand();
+                for (int color = 0; color < CardColor.COUNT; color++)
                 {
-                    Color color = entry.getKey();
-                    int value = entry.getValue();
-                    Text text = new Text(Integer.toString(value));
+                    Text text = new Text(Integer.toString(hand.count(color)));
                     valueImageHBoxP2.getChildren().add(text);
                 }
             }
@@ -152,7 +149,7 @@ public class Display
     {
         // Create ImageView for the red card player 1
         ImageView redCardImageViewP1 = new ImageView();
-        Image redCardImageP1 = new Image(Objects.requireNonNull(getClass().getResource(redCardImagePathP1)).toExternalForm());
+        Image redCardImageP1 = ImageCache.SHARED.get(redCardImagePathP1);
         redCardImageViewP1.setImage(redCardImageP1);
         redCardImageViewP1.setFitWidth(100);
         redCardImageViewP1.setFitHeight(75);
@@ -194,9 +191,11 @@ public class Display
                 Label playerLabel = new Label("Player: " + player.getName());
                 Label scoreLabel = new Label("Score: " + player.getScore());
                 Label taxisLabel = new Label("Taxis: " + player.getNumGamePieces());
+                Label ticketsLabel = new Label("Tickets: " + player.getNumCompletedDestinationCards()
+                        + " of " + player.getNumDestinationCards() + " complete");
 
                 //Creates a VBox for each player's information
-                VBox playerVBox = new VBox(playerLabel, scoreLabel, taxisLabel);
+                VBox playerVBox = new VBox(playerLabel, scoreLabel, taxisLabel, ticketsLabel);
 
                 //Adds a separating line (Separator) below each player's information
                 Separator separator = new Separator();
@@ -0,0 +1,205 @@
+package com.example.tickettoride;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import com.example.tickettoride.engine.BoardDefinition;
+import com.example.tickettoride.engine.GameEngine;
+import com.example.tickettoride.engine.GameState;
+import com.example.tickettoride.engine.RouteShape;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * HighlightRoutes class
+ * This class was created to display where the user is able to use their taxis.
+ * added feature of them pulsing
+ * Upon click we are able to change from a highlight to the routes color marking that it has been taken.
+ */
+public class HighlightRoutes implements BoardRenderer
+{
+    //Owner recorded for a route before the overlay has shown it
+    private static final int UNKNOWN = -2;
+
+    //Fill of the routes that can be claimed
+    private static final Color HIGHLIGHT_COLOR = Color.YELLOW;
+
+    //The game whose routes are shown, route ids match the indexes of allRectangles
+    private final GameState state;
+    //The players in seat order, used for the colors of claimed routes
+    private final List<Player> players;
+    //Called with the route id when a rectangle is clicked
+    private IntConsumer routeClickHandler;
+
+    public HighlightRoutes(GameState state, List<Player> players)
+    {
+        this.state = state;
+        this.players = players;
+        //Nothing has been drawn yet, so the first update applies every route
+        Arrays.fill(shownOwner, UNKNOWN);
+        Arrays.fill(shownVisible, true);
+    }
+
+    //Sets the action to run when the user clicks on a route
+    @Override
+    public void setOnRouteClicked(IntConsumer routeClickHandler)
+    {
+        this.routeClickHandler = routeClickHandler;
+    }
+
+    //Stops the pulse timer, which would otherwise keep the board and its scene alive
+    @Override
+    public void dispose()
+    {
+        routePulse.clear();
+        routeClickHandler = null;
+    }
+
+    //One rectangle per route, indexed by route id, placed where the board file says
+    Rectangle[] allRectangles = createRectangles(BoardDefinition.NEW_YORK);
+
+    //The map and route rectangles, built once by getOverlay and then only updated
+    private Pane overlayPane;
+    //Owner each rectangle is currently drawn for, so update can skip routes that haven't changed
+    private final int[] shownOwner = new int[allRectangles.length];
+    //Whether each rectangle is currently shown
+    private final boolean[] shownVisible = new boolean[allRectangles.length];
+    //Pulses the routes the current player can claim
+    private final RoutePulse routePulse = new RoutePulse();
+
+    //--------------------------- Display ----------------------------------\\
+
+    //Returns the board overlay, building it the first time, with the routes shown for the current game state
+    @Override
+    public Pane getOverlay()
+    {
+        if (overlayPane == null)
+        {
+            overlayPane = buildOverlay();
+        }
+        update(state);
+        return overlayPane;
+    }
+
+    /*
+        Brings the overlay up to date with the game
+        Only the routes whose owner or visibility changed since the last update are touched
+     */
+    @Override
+    public void update(GameState state)
+    {
+        if (overlayPane == null)
+        {
+            return;
+        }
+        long claimable = state.getClaimableRoutes();
+        for (int route = 0; route < allRectangles.length; route++)
+        {
+            Rectangle rectangle = allRectangles[route];
+            int owner = state.getRouteOwner(route);
+            if (owner != shownOwner[route])
+            {
+                shownOwner[route] = owner;
+                if (owner != GameEngine.NONE)
+                {
+                    //Claimed routes are shown solid in their owner's color
+                    routePulse.remove(rectangle);
+                    rectangle.setFill(players.get(owner).getPlayerColor());
+                }
+                else
+                {
+                    //Only happens when a replay seeks back to before the route was claimed
+                    rectangle.setFill(HIGHLIGHT_COLOR);
+                }
+            }
+
+            //Claimed routes are always shown, free ones only while the current player can claim them
+            boolean visible = owner != GameEngine.NONE || (claimable & (1L << route)) != 0;
+            if (visible != shownVisible[route])
+            {
+                shownVisible[route] = visible;
+                rectangle.setVisible(visible);
+            }
+
+            //Only the routes that can be claimed right now pulse
+            if (visible && owner == GameEngine.NONE)
+            {
+                routePulse.add(rectangle);
+            }
+            else
+            {
+                routePulse.remove(rectangle);
+            }
+        }
+    }
+
+    //Builds the map and the route rectangles, this only happens once per game
+    private Pane buildOverlay()
+    {
+        //Initializes a new board object
+        Board board = new Board();
+
+        //Loads the image
+        ImageView ticketToRideNYMap = board.getTicketToRideImage();
+
+        // Create an overlay pane
+        Pane overlayPane = new Pane();
+
+        //Adds the image to the overlay pane
+        overlayPane.getChildren().add(ticketToRideNYMap);
+        //Sets the highlight color for all rectangles
+        setRectangleFill(allRectangles);
+
+        overlayPane.getChildren().addAll(allRectangles);
+
+        initializeClickableRectangles(allRectangles);
+
+        return overlayPane;
+    }
+
+    //Creates the rectangles of a board's routes, each rotated to lie along its route on the map
+    private static Rectangle[] createRectangles(BoardDefinition board)
+    {
+        RouteShape[] shapes = board.getRouteShapes();
+        Rectangle[] rectangles = new Rectangle[shapes.length];
+        for (int route = 0; route < shapes.length; route++)
+        {
+            RouteShape shape = shapes[route];
+            rectangles[route] = new Rectangle(shape.x(), shape.y(), shape.width(), shape.height());
+            rectangles[route].setRotate(shape.rotation());
+        }
+        return rectangles;
+    }
+
+    //--------- Method to set the initial fill for each rectangle ------------\\
+    private void setRectangleFill(Rectangle[] rectangles)
+    {
+        for (Rectangle rectangle : rectangles)
+        {
+            //Sets the rectangle fill to yellow, the pulse only changes opacity so no effects are needed
+            rectangle.setFill(HIGHLIGHT_COLOR);
+        }
+    }
+
+    //Method to allow the rectangles to be clickable
+    private void initializeClickableRectangles(Rectangle[] rectangles)
+    {
+        for (int route = 0; route < rectangles.length; route++)
+        {
+            Rectangle rectangle = rectangles[route];
+            int routeId = route;
+            rectangle.setOnMouseClicked(event ->
+            {
+                //Passes the route to the game, which recolors it if the claim succeeds
+                if (routeClickHandler != null)
+                {
+                    routeClickHandler.accept(routeId);
+                }
+            });
+        }
+    }
+}
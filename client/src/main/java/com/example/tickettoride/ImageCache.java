@@ -0,0 +1,150 @@
+package com.example.tickettoride;
+
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * ImageCache class
+ * Keeps decoded images in memory so that card and board art is decoded once per session instead
+ * of on every draw or redraw. Images are keyed by their classpath resource path and the size they
+ * were decoded at, and the least recently used ones are evicted once the decoded pixels go over
+ * the memory budget.
+ * Safe to use from background threads: decoding happens outside the lock.
+ */
+public class ImageCache
+{
+    //Memory budget of the shared cache, enough for the board plus every card at full size
+    public static final long DEFAULT_MAX_BYTES = 128L * 1024 * 1024;
+    //Decoded images use 4 bytes per pixel
+    private static final int BYTES_PER_PIXEL = 4;
+
+    //Cache used by the whole game
+    public static final ImageCache SHARED = new ImageCache(DEFAULT_MAX_BYTES);
+
+    //Resource path plus decode size, a width and height of 0 mean the image's own size
+    private record Key(String path, double width, double height) {}
+
+    private final long maxBytes;
+    //Access ordered, so the first entry is always the least recently used
+    private final Map<Key, Image> images = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ImageCache(long maxBytes)
+    {
+        this.maxBytes = maxBytes;
+    }
+
+    //Gets a classpath image at its own size
+    public Image get(String path)
+    {
+        return get(path, 0, 0);
+    }
+
+    //Gets a classpath image scaled to fit the width and height, keeping its ratio
+    public Image get(String path, double width, double height)
+    {
+        Key key = new Key(path, width, height);
+        synchronized (this)
+        {
+            Image image = images.get(key);
+            if (image != null)
+            {
+                hits++;
+                return image;
+            }
+            misses++;
+        }
+
+        URL url = Objects.requireNonNull(ImageCache.class.getResource(path), "Missing image resource " + path);
+        Image image = new Image(url.toExternalForm(), width, height, true, false);
+
+        synchronized (this)
+        {
+            //Another thread may have decoded the same image meanwhile, keep the first one
+            Image existing = images.putIfAbsent(key, image);
+            if (existing != null)
+            {
+                return existing;
+            }
+            currentBytes += sizeOf(image);
+            evictOverBudget(key);
+        }
+        return image;
+    }
+
+    //Is the image already decoded at that size
+    public synchronized boolean contains(String path, double width, double height)
+    {
+        return images.containsKey(new Key(path, width, height));
+    }
+
+    //Removes the least recently used images until the cache fits its budget, never the one just added
+    private void evictOverBudget(Key newest)
+    {
+        Iterator<Map.Entry<Key, Image>> iterator = images.entrySet().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext())
+        {
+            Map.Entry<Key, Image> entry = iterator.next();
+            if (entry.getKey().equals(newest))
+            {
+                continue;
+            }
+            currentBytes -= sizeOf(entry.getValue());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private static long sizeOf(Image image)
+    {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    public synchronized void clear()
+    {
+        images.clear();
+        currentBytes = 0;
+    }
+
+    //------------------------------ Statistics -----------------------------\\
+    public synchronized long getHits()
+    {
+        return hits;
+    }
+
+    public synchronized long getMisses()
+    {
+        return misses;
+    }
+
+    public synchronized long getEvictions()
+    {
+        return evictions;
+    }
+
+    public synchronized int size()
+    {
+        return images.size();
+    }
+
+    //Estimated memory used by the decoded pixels
+    public synchronized long getCurrentBytes()
+    {
+        return currentBytes;
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        return "ImageCache[" + images.size() + " images, " + currentBytes / 1024 + " KB, "
+                + hits + " hits, " + misses + " misses, " + evictions + " evictions]";
+    }
+}
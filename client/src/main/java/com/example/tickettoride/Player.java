@@ -1,5 +1,7 @@
 package com.example.tickettoride;
 
+import com.example.tickettoride.engine.CardColor;
+import com.example.tickettoride.engine.Hand;
 import javafx.scene.paint.Color;
 
 import java.util.*;
@@ -22,13 +24,19 @@ public class Player
     private int score;
     private int numTransportationCards;
     private int numDestinationCards;
+    private int numCompletedDestinationCards;
     private int numGamePieces;
     RandomImages randomImages = new RandomImages();
     private List<TransportationCard> transportationCards;
     private List<DestinationCard> destinationCards;
     private Color playerColor;
+    //Is this seat played by a MonteCarloBot instead of a person
+    private boolean computer;
 
-    private Map<Color, Integer> playerHandMap = new LinkedHashMap<>();
+    //Card counts of the players hand, indexed by CardColor (same order as RandomImages.colors)
+    private final Hand hand = new Hand();
+    //Read-only map view of the hand for code that still works with Colors
+    private final Map<Color, Integer> playerHandMap = new HandMapView();
 
     //-----------------------------------------------------------------\\
     public Player()
@@ -41,13 +49,6 @@ public class Player
         this.transportationCards = new ArrayList<>();
         this.destinationCards = new ArrayList<>();
         this.playerColor = Color.WHITE;
-        playerHandMap.put(Color.BLUE, 0);
-        playerHandMap.put(Color.GREEN, 0);
-        playerHandMap.put(Color.BLACK, 0);
-        playerHandMap.put(Color.PINK, 0);
-        playerHandMap.put(Color.RED, 0);
-        playerHandMap.put(Color.ORANGE, 0);
-        playerHandMap.put(Color.WHITE, 0);
     }
 
     /*
@@ -72,13 +73,6 @@ public class Player
         this.transportationCards = new ArrayList<>();
         this.destinationCards = new ArrayList<>();
         this.playerColor = playerColor;
-        playerHandMap.put(Color.BLUE, 0);
-        playerHandMap.put(Color.GREEN, 0);
-        playerHandMap.put(Color.BLACK, 0);
-        playerHandMap.put(Color.PINK, 0);
-        playerHandMap.put(Color.RED, 0);
-        playerHandMap.put(Color.ORANGE, 0);
-        playerHandMap.put(Color.WHITE, 0);
     }
 
     protected void setNumPlayers(int numPlayers)
@@ -89,33 +83,90 @@ public class Player
         }
     }
 
-    //sets the map of the players hand
+    //sets the players hand from a map of card counts, colors that aren't card colors are ignored
     public void setPlayerHandMap(Map<Color, Integer> playerHandMap)
     {
-        this.playerHandMap = playerHandMap;
+        hand.clear();
+        for (Map.Entry<Color, Integer> entry : playerHandMap.entrySet())
+        {
+            setPlayerCardAmount(entry.getKey(), entry.getValue());
+        }
     }
 
-    //gets the map of the players hand
+    //gets a read-only map of the players hand, it always reflects the current counts
     public Map<Color, Integer> getPlayerHandMap()
     {
         return playerHandMap;
     }
 
+    //gets the players hand
+    public Hand getHand()
+    {
+        return hand;
+    }
+
     //Change count values of the respective players cards
     public void incrementPlayerHandValue(Color color, int value)
     {
-        int currentValue = playerHandMap.getOrDefault(color, 0);
-        //prints out the current value of the card
-        //System.out.println("The current value of the card is: " + currentValue);
-        int newValue = currentValue + value;
-        playerHandMap.put(color, newValue);
+        int cardIndex = cardIndexOf(color);
+        if (cardIndex >= 0)
+        {
+            hand.add(cardIndex, value);
+        }
+    }
 
-        //prints out what was put in the map
-        //System.out.println("The value of the card put in the map is: " + playerHandMap.get(color));
+    public void incrementPlayerHandValue(CardColor color, int value)
+    {
+        hand.add(color, value);
     }
 
     public void setPlayerCardAmount(Color color, int value) {
-        playerHandMap.put(color, value);
+        int cardIndex = cardIndexOf(color);
+        if (cardIndex >= 0)
+        {
+            hand.set(cardIndex, value);
+        }
+    }
+
+    //Finds the card index of a color among the 7 card colors, or -1 if it isn't one
+    private static int cardIndexOf(Color color)
+    {
+        for (int i = 0; i < RandomImages.colors.length; i++)
+        {
+            if (RandomImages.colors[i].equals(color))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    //Read-only Map view over the hand counts, in card color order
+    private final class HandMapView extends AbstractMap<Color, Integer>
+    {
+        @Override
+        public Set<Entry<Color, Integer>> entrySet()
+        {
+            Set<Entry<Color, Integer>> entries = new LinkedHashSet<>();
+            for (int i = 0; i < CardColor.COUNT; i++)
+            {
+                entries.add(new SimpleImmutableEntry<>(RandomImages.colors[i], hand.count(i)));
+            }
+            return Collections.unmodifiableSet(entries);
+        }
+
+        @Override
+        public Integer get(Object key)
+        {
+            int cardIndex = key instanceof Color color ? cardIndexOf(color) : -1;
+            return cardIndex >= 0 ? hand.count(cardIndex) : null;
+        }
+
+        @Override
+        public int size()
+        {
+            return CardColor.COUNT;
+        }
     }
 //------------------------------ Get/Sets -----------------------------\\
     public String getName()
@@ -143,6 +194,11 @@ public class Player
         return numDestinationCards;
     }
 
+    public int getNumCompletedDestinationCards()
+    {
+        return numCompletedDestinationCards;
+    }
+
     public int getNumGamePieces()
     {
         return numGamePieces;
@@ -179,6 +235,14 @@ public class Player
         }
     }
 
+    public void setNumCompletedDestinationCards(int numCompletedDestinationCards)
+    {
+        if (numCompletedDestinationCards >= 0)
+        {
+            this.numCompletedDestinationCards = numCompletedDestinationCards;
+        }
+    }
+
     public void setNumGamePieces(int numGamePieces)
     {
         if (numGamePieces >= 0)
@@ -197,6 +261,16 @@ public class Player
         this.playerColor = playerColor;
     }
 
+    public boolean isComputer()
+    {
+        return computer;
+    }
+
+    public void setComputer(boolean computer)
+    {
+        this.computer = computer;
+    }
+
     public void setNameAndColor(String name, Color color)
     {
         setName(name);
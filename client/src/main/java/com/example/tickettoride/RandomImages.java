@@ -0,0 +1,151 @@
+package com.example.tickettoride;
+
+import com.example.tickettoride.engine.BoardDefinition;
+import com.example.tickettoride.engine.GameRandom;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.util.Pair;
+
+
+public class RandomImages
+{
+    //Destination card logic
+    public static final ImageView cardImageView = new ImageView();
+    private final ImageView DestinationCardImageView = new ImageView();
+    protected int cardIndex = 0;
+    private Color cardColor;
+    //Generator used for the random card picks, replaced by the game's own stream once a game starts
+    private GameRandom random = GameRandom.unseeded();
+
+    //Size the card images are decoded at
+    public static final int CARD_IMAGE_WIDTH = 1000;
+    public static final int CARD_IMAGE_HEIGHT = 800;
+
+    //Array of card image paths, indexed by CardColor ordinal
+    public static final String[] CARDIMAGEPATHS = BoardDefinition.NEW_YORK.getCardImagePaths();
+
+    public static final String[] TRANSPORTATIONCARDIMAGEPATHS = BoardDefinition.NEW_YORK.getCardImagePaths();
+
+    //Colors for the cards, indexed by CardColor ordinal
+    public static final Color[] colors = {
+            Color.BLUE, Color.GREEN, Color.BLACK, Color.PINK, Color.RED, Color.ORANGE, Color.WHITE
+    };
+
+    /*
+    "#0000FF" = Color.BLUE
+    "#008000" = Color.GREEN
+    "#000000" = Color.BLACK
+    "#FFC0CB" = Color.PINK
+    "#FF0000" = Color.RED
+    "#FFA500" = Color.ORANGE
+    "#FFFFFF" = Color.WHITE
+     */
+    //Color hex codes
+    public static final String[] colorHexCodes = {
+            "#0000FF BLUE", "#008000 GREEN", "#000000 BLACK", "#FFC0CB PINK", "#FF0000 RED", "#FFA500 ORANGE", "#FFFFFF WHITE"
+    };
+    //array of card images, indexed by ticket id as listed in the board file
+    public static final String[] CardImagePath = BoardDefinition.NEW_YORK.getTicketImagePaths();
+
+    public Color color;
+
+    //Uses a stream split from the game's generator, so the picks are reproducible from the game's seed
+    public void setRandom(GameRandom random)
+    {
+        this.random = random;
+    }
+
+    public Image selectRandomDestinationCard()
+    {
+        // Get a random card index
+        int cardIndex = random.nextInt(CardImagePath.length);
+        // Get the selected card image path
+        String selectedCardImagePath = CardImagePath[cardIndex];
+
+        // Load the image using ClassLoader
+        final int imageWidth = CARD_IMAGE_WIDTH;
+        final int imageHeight = CARD_IMAGE_HEIGHT;
+
+        Image selectedCardImage = ImageCache.SHARED.get(selectedCardImagePath, imageWidth, imageHeight);
+
+        // Set the selected card image to the cardImageView
+        cardImageView.setImage(selectedCardImage);
+
+        return selectedCardImage;
+    }
+
+    //Method to select a random card from the deck
+    public Image selectRandomTransportationCard()
+    {
+        // Get a random card index
+        //prints out the length of the card image paths
+        //System.out.println("The length of the card image paths is: " + CARDIMAGEPATHS.length);
+        int cardIndex = random.nextInt(CARDIMAGEPATHS.length - 1);
+        //prints out the index of the card
+        //System.out.println("The card index is: " + cardIndex);
+        // Get the selected card image path
+        String selectedCardImagePath = CARDIMAGEPATHS[cardIndex];
+        //prints out the selected card image path
+        //System.out.println("The selected card image path is: " + selectedCardImagePath);
+
+        //sets the card color to the color of the card image
+        cardColor = colors[cardIndex];
+        //prints out the index of the card color
+        //System.out.println("The card color index is: " + cardIndex);
+        //Prints out the card color index hex code as a string
+        //System.out.println("The card color index hex code is: " + colorHexCodes[cardIndex]);
+        //prints out the color of the card
+        //System.out.println("The card color is: " + cardColor);
+
+        // Load the image using ClassLoader
+        final int imageWidth = CARD_IMAGE_WIDTH;
+        final int imageHeight = CARD_IMAGE_HEIGHT;
+
+        try
+        {
+            Image selectedCardImage = ImageCache.SHARED.get(selectedCardImagePath, imageWidth, imageHeight);
+
+            // Set the selected card image to the cardImageView
+            cardImageView.setImage(selectedCardImage);
+            //prints out the selected card image
+            //System.out.println("The selected card image is: " + selectedCardImage);
+
+            //Prints out the new pair
+            //System.out.println("The new pair is: " + new Pair<>(selectedCardImage, cardColor));
+
+            // Reset cardIndex to 0
+            cardIndex = 0;
+            //System.out.println("The card index ended at: " + cardIndex);
+            return new Pair<>(selectedCardImage, cardColor).getKey();
+        }
+        catch (NullPointerException e)
+        {
+            e.printStackTrace();
+            System.out.println("The selected card image path is null.");
+            //Prints out to the console the specific card image path that is null
+            System.out.println("The selected card image path is: " + selectedCardImagePath);
+        }
+        return null;
+    }
+
+    //returns the color of the card
+    public Color selectRandomTransportationCardColor()
+    {
+        return cardColor;
+    }
+
+    //Loads the image of a transportation card by its color index (see CardColor)
+    public Image getTransportationCardImage(int cardIndex)
+    {
+        cardColor = colors[cardIndex];
+        return ImageCache.SHARED.get(CARDIMAGEPATHS[cardIndex], CARD_IMAGE_WIDTH, CARD_IMAGE_HEIGHT);
+    }
+
+    //Loads the image of a destination card by its ticket id (see TicketDefinitions)
+    public Image getDestinationCardImage(int ticketId)
+    {
+        return ImageCache.SHARED.get(CardImagePath[ticketId], CARD_IMAGE_WIDTH, CARD_IMAGE_HEIGHT);
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.example.tickettoride;
+
+import com.example.tickettoride.engine.GameEngine;
+import com.example.tickettoride.engine.GameRecording;
+import com.example.tickettoride.engine.Move;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+import java.util.ArrayList;
+
+/**
+ * ReplayViewer class
+ * Window for scrubbing through a recorded game. The board is the same HighlightRoutes overlay
+ * used in play; seeking asks the recording for the game after that move, which only restores
+ * the nearest keyframe and applies the few moves after it, and updates the overlay with it.
+ */
+public class ReplayViewer
+{
+    private final GameRecording recording;
+    //Players of the recorded game, updated to show each move's scores
+    private final ObservableList<Player> players = FXCollections.observableArrayList();
+    private final Display display = new Display(players);
+    private final VBox playersVBox = new VBox();
+    private final Label moveLabel = new Label();
+    private final Slider slider;
+    private HighlightRoutes board;
+    private int shownMove = -1;
+
+    public ReplayViewer(GameRecording recording)
+    {
+        this.recording = recording;
+        String[] names = recording.getPlayerNames();
+        int[] colors = recording.getPlayerColors();
+        for (int i = 0; i < names.length; i++)
+        {
+            players.add(new Player(names[i], 0, 0, 0, new ArrayList<>(), new ArrayList<>(), GameEngine.STARTING_TAXIS, TicketToRide.fromArgb(colors[i])));
+        }
+        slider = new Slider(0, recording.getMoveCount(), 0);
+    }
+
+    //Opens the replay in a new window at the start of the game
+    public void show()
+    {
+        GameEngine start = recording.stateAt(0);
+        board = new HighlightRoutes(start, players);
+
+        //Ticks mark the keyframes, seeking is cheapest right on them
+        slider.setMajorTickUnit(recording.getKeyframeInterval());
+        slider.setMinorTickCount(0);
+        slider.setShowTickMarks(true);
+        slider.setBlockIncrement(1);
+        HBox.setHgrow(slider, Priority.ALWAYS);
+        slider.valueProperty().addListener((observable, oldValue, newValue) -> seek((int) Math.round(newValue.doubleValue())));
+
+        Button firstButton = new Button("|<");
+        firstButton.setOnAction(event -> slider.setValue(0));
+        Button previousButton = new Button("<");
+        previousButton.setOnAction(event -> slider.setValue(Math.max(0, shownMove - 1)));
+        Button nextButton = new Button(">");
+        nextButton.setOnAction(event -> slider.setValue(Math.min(recording.getMoveCount(), shownMove + 1)));
+        Button lastButton = new Button(">|");
+        lastButton.setOnAction(event -> slider.setValue(recording.getMoveCount()));
+
+        HBox controls = new HBox(5, firstButton, previousButton, slider, nextButton, lastButton);
+        controls.setAlignment(Pos.CENTER);
+        controls.setPadding(new Insets(5));
+        VBox bottom = new VBox(5, moveLabel, controls);
+        bottom.setPadding(new Insets(5));
+
+        StackPane boardContainer = new StackPane(board.getOverlay());
+        boardContainer.setAlignment(Pos.CENTER);
+        playersVBox.setMinWidth(250);
+
+        BorderPane borderPane = new BorderPane();
+        borderPane.setCenter(boardContainer);
+        borderPane.setLeft(playersVBox);
+        borderPane.setBottom(bottom);
+
+        Stage stage = new Stage();
+        Display.ChangeIcon(stage);
+        stage.setTitle(TicketToRide.TITLE + " - Replay");
+        stage.setScene(new Scene(borderPane));
+        //A closed replay's board would otherwise keep pulsing, and stay in memory, for the rest of the session
+        stage.setOnHidden(event -> board.dispose());
+        seek(0);
+        stage.show();
+    }
+
+    //Shows the game as it was after the given number of moves
+    public void seek(int move)
+    {
+        if (move == shownMove)
+        {
+            return;
+        }
+        shownMove = move;
+        GameEngine state = recording.stateAt(move);
+        board.update(state);
+        TurnHandler.syncPlayers(state, players);
+        playersVBox.getChildren().setAll(display.getPlayerInfoVBox());
+
+        StringBuilder text = new StringBuilder("Move " + move + " of " + recording.getMoveCount());
+        if (move > 0)
+        {
+            text.append(", last move: ").append(Move.toString(recording.getMove(move - 1)));
+        }
+        if (state.isGameOver())
+        {
+            text.append(". Game over");
+        }
+        else
+        {
+            text.append(". ").append(players.get(state.getCurrentPlayer()).getName()).append("'s turn");
+        }
+        moveLabel.setText(text.toString());
+    }
+}
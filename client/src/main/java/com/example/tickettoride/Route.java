@@ -0,0 +1,77 @@
+package com.example.tickettoride;
+
+import com.example.tickettoride.engine.CardColor;
+import com.example.tickettoride.engine.RouteDefinitions;
+import com.example.tickettoride.engine.RouteGraph;
+
+/*
+    Keeps count of all the routes
+    Keeps count of the length of the routes
+    Tracks the required color of the routes
+    The per route data lives in the engine's RouteGraph, so every lookup is an array read by route id
+ */
+public class Route
+{
+    public static final int TOTAL_ALL_ROUTES = 41;
+
+    public static final int TOTAL_ROUTES = 30;
+    public static final int TOTAL_DOUBLE_ROUTES = 22;
+
+    public static int totalBlueRoutes = 0;
+    public static int totalGreenRoutes = 0;
+    public static int totalBlackRoutes = 0;
+    public static int totalPinkRoutes = 0;
+    public static int totalRedRoutes = 0;
+    public static int totalOrangeRoutes = 0;
+    public static int totalTaxiRoutes = 0;
+
+    //The board the routes belong to
+    private final RouteGraph graph = RouteGraph.NEW_YORK;
+
+    //Gets the length of a route by its id
+    public int getLengthOfRoute(int routeId)
+    {
+        return graph.length(routeId);
+    }
+
+    //Gets the length of a route by its name, e.g. "ChelseaToSoho", or 0 if there is no such route
+    public int getLengthOfRoute(String routeName)
+    {
+        int routeId = graph.routeId(routeName);
+        return routeId < 0 ? 0 : graph.length(routeId);
+    }
+
+    //Gets the card color needed for a route, or null for grey routes
+    public CardColor getColorOfRoute(int routeId)
+    {
+        int color = graph.color(routeId);
+        return color == RouteDefinitions.GREY ? null : CardColor.of(color);
+    }
+
+    //Constructor
+    public Route()
+    {
+        totalBlueRoutes = 0;
+        totalGreenRoutes = 0;
+        totalBlackRoutes = 0;
+        totalPinkRoutes = 0;
+        totalRedRoutes = 0;
+        totalOrangeRoutes = 0;
+        totalTaxiRoutes = 0;
+    }
+
+    //Constructor with parameters
+    public Route(int blueRoute, int greenRoute, int blackRoute, int pinkRoute, int redRoute, int orangeRoute, int taxiRoute)
+    {
+        totalBlueRoutes = blueRoute;
+        totalGreenRoutes = greenRoute;
+        totalBlackRoutes = blackRoute;
+        totalPinkRoutes = pinkRoute;
+        totalRedRoutes = redRoute;
+        totalOrangeRoutes = orangeRoute;
+        totalTaxiRoutes = taxiRoute;
+    }
+
+    //Getters
+
+}
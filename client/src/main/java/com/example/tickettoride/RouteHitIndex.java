@@ -0,0 +1,107 @@
+package com.example.tickettoride;
+
+import com.example.tickettoride.engine.RouteShape;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * RouteHitIndex class
+ * Finds the route under a point without a node per route. The board is split into a grid of
+ * square cells and each cell lists the routes whose bounding box touches it, so a click only
+ * checks the few routes in its cell against their exact rotated rectangles.
+ */
+public class RouteHitIndex
+{
+    public static final double DEFAULT_CELL_SIZE = 50;
+
+    private final RouteShape[] shapes;
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    //Route ids of each cell, cellStart[c] to cellStart[c + 1] in cellRoutes
+    private final int[] cellStart;
+    private final int[] cellRoutes;
+
+    public RouteHitIndex(RouteShape[] shapes, double boardWidth, double boardHeight)
+    {
+        this(shapes, boardWidth, boardHeight, DEFAULT_CELL_SIZE);
+    }
+
+    public RouteHitIndex(RouteShape[] shapes, double boardWidth, double boardHeight, double cellSize)
+    {
+        this.shapes = shapes;
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(boardWidth / cellSize);
+        this.rows = (int) Math.ceil(boardHeight / cellSize);
+
+        //First pass counts the routes of each cell, second pass fills them in
+        int[] counts = new int[columns * rows];
+        for (RouteShape shape : shapes)
+        {
+            forEachCell(shape, cell -> counts[cell]++);
+        }
+        cellStart = new int[counts.length + 1];
+        for (int cell = 0; cell < counts.length; cell++)
+        {
+            cellStart[cell + 1] = cellStart[cell] + counts[cell];
+        }
+        cellRoutes = new int[cellStart[counts.length]];
+        int[] next = cellStart.clone();
+        for (int route = 0; route < shapes.length; route++)
+        {
+            int routeId = route;
+            forEachCell(shapes[route], cell -> cellRoutes[next[cell]++] = routeId);
+        }
+    }
+
+    //Calls the action with every cell the shape's bounding box touches
+    private void forEachCell(RouteShape shape, IntConsumer action)
+    {
+        int firstColumn = clamp((int) Math.floor(shape.minX() / cellSize), columns);
+        int lastColumn = clamp((int) Math.floor(shape.maxX() / cellSize), columns);
+        int firstRow = clamp((int) Math.floor(shape.minY() / cellSize), rows);
+        int lastRow = clamp((int) Math.floor(shape.maxY() / cellSize), rows);
+        for (int row = firstRow; row <= lastRow; row++)
+        {
+            for (int column = firstColumn; column <= lastColumn; column++)
+            {
+                action.accept(row * columns + column);
+            }
+        }
+    }
+
+    private static int clamp(int value, int size)
+    {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    /**
+     * Finds the route at the point, checking only routes the filter accepts
+     * When routes overlap the one with the highest id wins, as it is drawn on top
+     * @return the route id, or -1 if there is no such route at the point
+     */
+    public int routeAt(double x, double y, IntPredicate filter)
+    {
+        if (x < 0 || y < 0 || x >= columns * cellSize || y >= rows * cellSize)
+        {
+            return -1;
+        }
+        int cell = (int) (y / cellSize) * columns + (int) (x / cellSize);
+        int found = -1;
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++)
+        {
+            int route = cellRoutes[i];
+            if (route > found && filter.test(route) && shapes[route].contains(x, y))
+            {
+                found = route;
+            }
+        }
+        return found;
+    }
+
+    public int routeAt(double x, double y)
+    {
+        return routeAt(x, y, route -> true);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.tickettoride;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * RoutePulse class
+ * Drives the pulsing of the highlighted routes with one AnimationTimer and one shared opacity
+ * property that every pulsing node is bound to. The timer only runs while at least one node
+ * is pulsing, so an idle board costs no frames at all.
+ */
+public class RoutePulse
+{
+    //Time for one full fade out and back in, the same as the old 2 second auto-reversing timeline
+    public static final double DEFAULT_PERIOD_SECONDS = 4;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    //Opacity shared by all pulsing nodes
+    private final DoubleProperty opacity = new SimpleDoubleProperty(1.0);
+    private final Set<Node> nodes = new HashSet<>();
+    private final long periodNanos;
+    private final AnimationTimer timer;
+    private boolean running;
+    //Time of the first frame, so every pulse starts fully visible
+    private long startNanos = -1;
+
+    public RoutePulse()
+    {
+        this(DEFAULT_PERIOD_SECONDS);
+    }
+
+    public RoutePulse(double periodSeconds)
+    {
+        this.periodNanos = (long) (periodSeconds * NANOS_PER_SECOND);
+        this.timer = new AnimationTimer()
+        {
+            @Override
+            public void handle(long now)
+            {
+                if (startNanos < 0)
+                {
+                    startNanos = now;
+                }
+                double phase = (double) ((now - startNanos) % periodNanos) / periodNanos;
+                //Smooth fade from 1 down to 0 and back up, like the old ease-both keyframes
+                opacity.set(0.5 + 0.5 * Math.cos(2 * Math.PI * phase));
+            }
+        };
+    }
+
+    //Starts pulsing the node, starting the timer if it was idle
+    public void add(Node node)
+    {
+        if (!nodes.add(node))
+        {
+            return;
+        }
+        //Pulsing only changes opacity, so the node can be drawn from a cached bitmap
+        node.setCache(true);
+        node.setCacheHint(CacheHint.SPEED);
+        node.opacityProperty().bind(opacity);
+        if (!running)
+        {
+            running = true;
+            startNanos = -1;
+            opacity.set(1.0);
+            timer.start();
+        }
+    }
+
+    //Stops pulsing the node and leaves it fully visible, stopping the timer once nothing pulses
+    public void remove(Node node)
+    {
+        if (!nodes.remove(node))
+        {
+            return;
+        }
+        node.opacityProperty().unbind();
+        node.setOpacity(1.0);
+        node.setCache(false);
+        if (nodes.isEmpty())
+        {
+            stop();
+        }
+    }
+
+    public void clear()
+    {
+        for (Node node : nodes)
+        {
+            node.opacityProperty().unbind();
+            node.setOpacity(1.0);
+            node.setCache(false);
+        }
+        nodes.clear();
+        stop();
+    }
+
+    private void stop()
+    {
+        if (running)
+        {
+            running = false;
+            timer.stop();
+        }
+    }
+
+    public boolean isPulsing(Node node)
+    {
+        return nodes.contains(node);
+    }
+
+    //Is the timer running, false whenever nothing is highlighted
+    public boolean isRunning()
+    {
+        return running;
+    }
+
+    public ReadOnlyDoubleProperty opacityProperty()
+    {
+        return opacity;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.tickettoride;
+
+import com.example.tickettoride.engine.RouteGraph;
+
+import java.util.List;
+
+/**
+ * Scoring class
+ * This class will contain logic for the scoring and/or the scoring system
+ * Route values come from the RouteGraph, indexed by route id.
+ */
+public class Scoring {
+    //Prefix used by the old string keys, e.g. "valueOfChelseaToSoho"
+    private static final String VALUE_PREFIX = "valueOf";
+
+    // Board holding the value of each route
+    private final RouteGraph graph;
+
+    public Scoring() {
+        this(RouteGraph.NEW_YORK);
+    }
+
+    public Scoring(RouteGraph graph) {
+        this.graph = graph;
+    }
+
+    // Value of a route by its id
+    public int calcRouteScore(int routeId) {
+        return graph.points(routeId);
+    }
+
+    // Value of a route by its name, with or without the "valueOf" prefix, or 0 if there is no such route
+    public int calcRouteScore(String route) {
+        String name = route.startsWith(VALUE_PREFIX) ? route.substring(VALUE_PREFIX.length()) : route;
+        int routeId = graph.routeId(name);
+        return routeId < 0 ? 0 : graph.points(routeId);
+    }
+
+    // Calculate total score of player from a route ownership mask (see RouteOwnership)
+    public void calculatePlayerScore(Player player, long routeMask) {
+        int totalScore = 0;
+        while (routeMask != 0) {
+            totalScore += graph.points(Long.numberOfTrailingZeros(routeMask));
+            routeMask &= routeMask - 1;
+        }
+        player.setScore(player.getScore() + totalScore);
+    }
+
+    // Calculate total score of player from route ids
+    public void calculatePlayerScore(Player player, int[] routeIds) {
+        int totalScore = 0;
+        for (int routeId : routeIds) {
+            totalScore += graph.points(routeId);
+        }
+        player.setScore(player.getScore() + totalScore);
+    }
+
+    // Calculate total score of player
+    public void calculatePlayerScore(Player player, List<String> routeComp) {
+        int totalScore = 0;
+        for (String route : routeComp) {
+            totalScore += calcRouteScore(route);
+        }
+        player.setScore(player.getScore() + totalScore);
+    }
+
+}
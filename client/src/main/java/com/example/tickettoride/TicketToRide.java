@@ -1,5 +1,14 @@
 package com.example.tickettoride;
 
+import com.example.tickettoride.engine.Bot;
+import com.example.tickettoride.engine.GameEngine;
+import com.example.tickettoride.engine.GameJournal;
+import com.example.tickettoride.engine.GameRecording;
+import com.example.tickettoride.engine.GameRandom;
+import com.example.tickettoride.engine.GameSnapshot;
+import com.example.tickettoride.engine.MctsBot;
+import com.example.tickettoride.engine.MonteCarloBot;
+import com.example.tickettoride.engine.Move;
 import javafx.application.Application;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -12,11 +21,14 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * TicketToRide class
@@ -29,22 +41,54 @@ public class TicketToRide extends Application
     public static final int HEIGHT = 1080;
     public static final int WIDTH = 1440;
     //Constant for the max cards per turn
-    public static final int MAX_CARDS_PER_TURN = 2;
+    public static final int MAX_CARDS_PER_TURN = GameEngine.MAX_CARDS_PER_TURN;
+    //System property that switches the board to the Canvas renderer (-Dtickettoride.canvasBoard=true)
+    public static final String CANVAS_BOARD_PROPERTY = "tickettoride.canvasBoard";
     RandomImages randomImages = new RandomImages();
     //Stores Player objects in a list
     public ObservableList<Player> currentPlayers = FXCollections.observableArrayList();
-    //Creates a map to store click counters for each player
-    public Map<Player, Integer> clickCounterMap = new HashMap<>();
     //Creates a new Display object, passing the currentPlayers list to it
     Display display = new Display(currentPlayers);
 
-    //Initializes the turn counter to zero to start the game with the first player (player 1 a.k.a. player 0)
-    public int turnCounter = 0;
+    //Forwards the players' actions to the game engine, created once the players are chosen
+    private TurnHandler turnHandler;
+    //Decodes the game's images in the background while the splash and player selection screens are up
+    private AssetPreloader assetPreloader;
+    //System property with the time in milliseconds a computer player thinks about each move
+    public static final String BOT_TIME_PROPERTY = "tickettoride.botMillis";
+    //System property choosing the computer players' search, "mcts" for tree search, playouts otherwise
+    public static final String BOT_PROPERTY = "tickettoride.bot";
+    //Runs the computer players' playouts, one worker per core but one left for the UI
+    private ForkJoinPool botPool;
+    //System property that turns the turn notifications off for fast games (-Dtickettoride.notifications=false)
+    public static final String NOTIFICATIONS_PROPERTY = "tickettoride.notifications";
+    //Width of each drawn destination ticket while the player chooses, two fit across the right pane
+    private static final double DRAWN_TICKET_WIDTH = 190;
+    //Drawn tickets the player has chosen to return are faded out
+    private static final double RETURNED_TICKET_OPACITY = 0.35;
+    //Banner over the board announcing turns, reused by every game window
+    private final TurnNotifications notifications = new TurnNotifications();
+    //Set while a computer player is choosing a move, the board ignores clicks meanwhile
+    private boolean botThinking;
+    //The computer player's move being worked out, cancelled when another game replaces this one
+    private CancellationToken botMove;
+    //Randomness of the computer players' playouts, kept apart from the game's own generator so
+    //thinking never changes the cards the game deals
+    private final GameRandom botRandom = GameRandom.unseeded();
+    //Created on the first computer move and kept, so a tree search reuses what it learned last turn
+    private Bot bot;
+    //The game window's layout and board, for computer moves that arrive after the handlers returned
+    private BorderPane gameBorderPane;
+    private BoardRenderer gameBoard;
 
     //------------------ Splash Screen Creation -----------------\\
     @Override
     public void start(Stage primaryStage)
     {
+        //Starts decoding the map and card images right away
+        assetPreloader = new AssetPreloader();
+        assetPreloader.start();
+
         //Creates a new StackPane for the splash screen
         StackPane splashScreen = new StackPane();
 
@@ -97,8 +141,8 @@ public class TicketToRide extends Application
         StackPane.setAlignment(titleLabel, Pos.CENTER);
         titleLabel.setPadding(new Insets(10));
 
-        VBox clickToBeginLabelBox = new VBox();
-        clickToBeginLabelBox.getChildren().add(clickToBeginLabel);
+        VBox clickToBeginLabelBox = new VBox(10);
+        clickToBeginLabelBox.getChildren().addAll(clickToBeginLabel, getLoadingProgressBar());
 
         //Modifies the style of the clickToBeginLabelBox adding a gap between the labels
         clickToBeginLabelBox.setStyle("-fx-padding: 100;");
@@ -123,15 +167,68 @@ public class TicketToRide extends Application
         //Handle the click event to close the splash screen
         splashScene.setOnMouseClicked(event ->
         {
-            //Closes the splash screen
-            primaryStage.close();
+            //Only the first click counts while the journal is being read
+            splashScene.setOnMouseClicked(null);
+            BackgroundTasks.SHARED.io(token -> recoverJournaledGame(), unfinished ->
+            {
+                //Closes the splash screen, only now so the application doesn't exit with no window open
+                primaryStage.close();
 
-            //Displays the player selection screen
-            Stage playerSelectStage = new Stage();
-            createPlayerSelection(playerSelectStage);
+                //Offers to continue a game that was cut short, otherwise displays the player selection screen
+                if (unfinished != null && askToResume())
+                {
+                    resumeGame(new Stage(), unfinished);
+                    return;
+                }
+                Stage playerSelectStage = new Stage();
+                createPlayerSelection(playerSelectStage);
+            }, e ->
+            {
+                primaryStage.close();
+                createPlayerSelection(new Stage());
+            });
         });
     }
 
+    //Makes sure the last moves reach the journal when the window is closed mid-game, and stops the bots
+    @Override
+    public void stop()
+    {
+        if (turnHandler != null)
+        {
+            turnHandler.closeJournal();
+        }
+        BackgroundTasks.SHARED.shutdown();
+        if (botPool != null)
+        {
+            botPool.shutdownNow();
+        }
+    }
+
+    //Restores the game left in the journal by a crash or by closing the window, or null if there is none
+    private static GameSnapshot recoverJournaledGame()
+    {
+        try
+        {
+            GameSnapshot snapshot = GameJournal.recover(GameJournal.defaultDirectory());
+            return snapshot == null || snapshot.getEngine().isGameOver() ? null : snapshot;
+        }
+        catch (IOException | IllegalArgumentException e)
+        {
+            System.out.println("Could not recover the unfinished game: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean askToResume()
+    {
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setTitle("Unfinished Game");
+        alert.setHeaderText(null);
+        alert.setContentText("The last game was not finished. Do you want to continue it?");
+        return alert.showAndWait().filter(button -> button == ButtonType.OK).isPresent();
+    }
+
     private static ImageView getImageView() throws MalformedURLException
     {
         File imageFile = new File("src/main/resources/com/example/tickettoride/TransportCards/RainbowCard.png");
@@ -189,6 +286,10 @@ public class TicketToRide extends Application
         Label colorLabel = new Label("Player Color:");
         //Creates a label for the Player name text area
         Label playerNameLabel = new Label("Player Name:");
+        //Creates a check box for seats played by the computer
+        CheckBox computerCheckBox = new CheckBox("Computer Player");
+        computerCheckBox.setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
+        computerCheckBox.visibleProperty().setValue(false);
         btnAddPlayer.visibleProperty().setValue(false);
         colorLabel.visibleProperty().setValue(false);
         playerNameLabel.visibleProperty().setValue(false);
@@ -234,6 +335,7 @@ public class TicketToRide extends Application
                 colorComboBox.visibleProperty().setValue(true);
                 taPlayer.visibleProperty().setValue(true);
                 btnAddPlayer.visibleProperty().setValue(true);
+                computerCheckBox.visibleProperty().setValue(true);
 
                 confirmButton.setDisable(true);
 
@@ -254,8 +356,10 @@ public class TicketToRide extends Application
                         if (!taPlayer.getText().isEmpty() && colorComboBox.getValue() != null)
                         {
                             Player playerInfo = createPlayer(taPlayer.getText(), Color.valueOf(colorComboBox.getValue()));
+                            playerInfo.setComputer(computerCheckBox.isSelected());
                             currentPlayers.add(playerInfo);
                             taPlayer.clear();
+                            computerCheckBox.setSelected(false);
 
                             // Remove the selected color only if it exists in the ComboBox
                             if (colorComboBox.getItems().contains(colorComboBox.getValue()))
@@ -320,7 +424,7 @@ public class TicketToRide extends Application
                 "-fx-background-repeat: no-repeat; " +
                 "-fx-background-size: 800px 1080px;" +
                 "-fx-alignment: center; -fx-padding: 20px;");
-        layout2.getChildren().addAll(colorComboBox, taPlayer, btnAddPlayer);
+        layout2.getChildren().addAll(colorComboBox, taPlayer, computerCheckBox, btnAddPlayer, getLoadingProgressBar());
         layout2.setAlignment(Pos.BOTTOM_CENTER);
         layout.getChildren().add(layout2);
 
@@ -338,6 +442,16 @@ public class TicketToRide extends Application
         playerSelectStage.show();
     }
 
+    //Progress bar that follows the asset preloader and hides itself once everything is loaded
+    private ProgressBar getLoadingProgressBar()
+    {
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.setPrefWidth(300);
+        progressBar.progressProperty().bind(assetPreloader.progressProperty());
+        progressBar.visibleProperty().bind(assetPreloader.runningProperty());
+        return progressBar;
+    }
+
     private static Label getLabel()
     {
         Label titleLabel = new Label(TITLE);
@@ -353,11 +467,43 @@ public class TicketToRide extends Application
     // ------------------------- Main game board creation --------------------------\\
     private void createGameInterface(Stage primaryStage)
     {
+        //Creates the game engine that holds the rules and state of this game
+        GameEngine engine = new GameEngine(currentPlayers.size());
+        randomImages.setRandom(engine.getRandom().split());
+        showGame(primaryStage, engine);
+    }
+
+    //Builds the game window around the engine, used for new games and for loaded ones
+    private void showGame(Stage primaryStage, GameEngine engine)
+    {
+        if (turnHandler != null)
+        {
+            turnHandler.closeJournal();
+        }
+        //A move the computer player was still thinking about belongs to the old game
+        if (botMove != null)
+        {
+            botMove.cancel();
+            botMove = null;
+        }
+        //The old game's board stops pulsing, so it and its scene can be collected
+        if (gameBoard != null)
+        {
+            gameBoard.dispose();
+            gameBoard = null;
+        }
+        turnHandler = new TurnHandler(engine, currentPlayers);
+        turnHandler.setRecording(new GameRecording(engine, getPlayerNames(), getPlayerColors()));
+        //Crash recovery journal, the game still runs if it can't be written
+        turnHandler.startJournal(GameJournal.defaultDirectory(), getPlayerNames(), getPlayerColors());
+
         //Creates a new borderPane
         BorderPane borderPane = new BorderPane();
 
-        //Creates a new HighlightRoutes object
-        HighlightRoutes highlightRoutes = new HighlightRoutes();
+        //Creates the board, drawn with a node per route unless the canvas renderer is switched on
+        BoardRenderer highlightRoutes = Boolean.getBoolean(CANVAS_BOARD_PROPERTY)
+                ? new CanvasBoardRenderer(engine, currentPlayers)
+                : new HighlightRoutes(engine, currentPlayers);
 
         //Creates a VBox for the left side of the borderPane to display the players in turn order
         VBox leftPlayersVBox = new VBox();
@@ -369,7 +515,7 @@ public class TicketToRide extends Application
 
         try
         {
-            imageContainer.getChildren().add(highlightRoutes.highlightRectangles(imageContainer));
+            imageContainer.getChildren().add(highlightRoutes.getOverlay());
         }
         catch (Exception e)
         {
@@ -379,6 +525,20 @@ public class TicketToRide extends Application
 
         imageContainer.setAlignment(Pos.CENTER);
 
+        //Claims a route when the current player clicks on a highlighted rectangle
+        highlightRoutes.setOnRouteClicked(route ->
+        {
+            if (!isHumanTurn())
+            {
+                return;
+            }
+            if (turnHandler.placeRoute(route))
+            {
+                updatePlayerDisplays(borderPane);
+                handleTurnEnded(highlightRoutes);
+            }
+        });
+
         //Adds the image container to the center of the borderPane
         borderPane.setCenter(imageContainer);
         borderPane.autosize();
@@ -399,11 +559,13 @@ public class TicketToRide extends Application
         MenuItem saveMenuItem = new MenuItem("Save");
         //Creates a new loadMenuItem for the File menu
         MenuItem loadMenuItem = new MenuItem("Load");
+        //Creates a new replayMenuItem for the File menu
+        MenuItem replayMenuItem = new MenuItem("Replays");
         //Creates a new exitMenuItem for the File menu
         MenuItem exitMenuItem = new MenuItem("Exit");
 
         //Adds the menu items to the File menu
-        fileMenu.getItems().addAll(saveMenuItem, loadMenuItem, exitMenuItem);
+        fileMenu.getItems().addAll(saveMenuItem, loadMenuItem, replayMenuItem, exitMenuItem);
 
         //Creates a new rulesMenuItem for the About menu
         MenuItem rulesMenuItem = new MenuItem("Rules");
@@ -419,6 +581,12 @@ public class TicketToRide extends Application
         hBox.getChildren().addAll(menuBar);
         hBox.setBorder(new Border(new BorderStroke(Color.BLACK, BorderStrokeStyle.SOLID, CornerRadii.EMPTY, BorderWidths.DEFAULT)));
 
+        //Events for the saveMenuItem and loadMenuItem
+        saveMenuItem.setOnAction(actionEvent -> saveGame(primaryStage));
+        loadMenuItem.setOnAction(actionEvent -> loadGame(primaryStage));
+        //Event for the replayMenuItem
+        replayMenuItem.setOnAction(actionEvent -> openReplay(primaryStage));
+
         //Event for the exitMenuItem
         exitMenuItem.setOnAction(actionEvent ->
         {
@@ -514,8 +682,6 @@ public class TicketToRide extends Application
         });
 
         //-------------- Create Button to select random card for transportation deck ---------------------\\
-        TransportationCard transportationCard = new TransportationCard();
-
         // Create ImageView to display the selected card image
         ImageView cardImage = new ImageView();
         // Set height and width of card image.
@@ -553,33 +719,16 @@ public class TicketToRide extends Application
         //-------------------- Event handler for drawing transportation cards ----------------------\\
         //Creates the event to handle the player drawing transportation cards
         btnRandomCard.setOnAction(event ->
-        {
-            //Gets the current player
-            Player currentPlayer = currentPlayers.get(turnCounter % currentPlayers.size());
-
-            //gets or initializes the click counter for the current player
-            int clickCounter = clickCounterMap.getOrDefault(currentPlayer, 0);
-
-            handleCardDraw(currentPlayer, clickCounter, cardImage, transportationCard, borderPane, highlightRoutes, imageContainer);
-
-            if (clickCounter == MAX_CARDS_PER_TURN)
-            {
-                handleMaxCardsDrawn(highlightRoutes, imageContainer, currentPlayer);
-                DisplayCurrentPlayersTurn();
-            }
-        });
+                handleCardDraw(cardImage, borderPane, highlightRoutes));
         //----------------- End of event handler for drawing transportation cards -------------------\\
 
         //--------------------------------------------------------------------------------\\
         //Create Button to select random card from destination deck
-        DestinationCard destinationCard = new DestinationCard();
-
-        // Create ImageView to display the selected card image
-        ImageView destinationImage = new ImageView();
-        // Set height and width of card image.
-        destinationImage.setFitWidth(250);
-        destinationImage.setFitHeight(200);
-        destinationImage.setPreserveRatio(true);
+        //Shows the drawn destination tickets side by side while the player picks which to keep
+        HBox drawnTickets = new HBox(10);
+        //Confirms the tickets picked, only enabled while the engine accepts the selection
+        Button btnKeepTickets = new Button("Keep Selected Tickets");
+        btnKeepTickets.setVisible(false);
 
         // Create Button to select random card
         Button btnDestinationCard = new Button("Please Select A Card");
@@ -600,33 +749,60 @@ public class TicketToRide extends Application
         btnDestinationCard.setMinHeight(200);
         btnDestinationCard.setMinWidth(250);
 
-        RandomImages randomImages = new RandomImages();
-
         //-------------------- Event handler for the destination card button ----------------------\\
+        //Shows the drawn destination tickets, the player has to choose which to keep before doing anything else
+        Runnable showDrawnTickets = () ->
+        {
+            btnRandomCard.setDisable(true);
+            btnDestinationCard.setDisable(true);
+            int pending = engine.getPendingTicketCount();
+            //Every ticket starts out kept, clicking one returns it to the deck or keeps it again
+            int[] keepMask = {(1 << pending) - 1};
+            drawnTickets.getChildren().clear();
+            for (int i = 0; i < pending; i++)
+            {
+                int slot = i;
+                ImageView ticketImage = new ImageView(randomImages.getDestinationCardImage(engine.getPendingTicket(slot)));
+                ticketImage.setFitWidth(DRAWN_TICKET_WIDTH);
+                ticketImage.setPreserveRatio(true);
+                ticketImage.setOnMouseClicked(event1 ->
+                {
+                    keepMask[0] ^= 1 << slot;
+                    ticketImage.setOpacity((keepMask[0] & (1 << slot)) != 0 ? 1 : RETURNED_TICKET_OPACITY);
+                    btnKeepTickets.setDisable(!engine.isLegal(Move.keepTickets(keepMask[0])));
+                });
+                drawnTickets.getChildren().add(ticketImage);
+            }
+            btnKeepTickets.setDisable(false);
+            btnKeepTickets.setVisible(true);
+            //Stores the kept tickets in the player's hand and ends the turn
+            btnKeepTickets.setOnAction(event1 ->
+            {
+                turnHandler.keepDestinationCards(keepMask[0]);
+                System.out.println(turnHandler.getCurrentPlayer().getName() + " kept " + Integer.bitCount(keepMask[0]) + " destination cards");
+                //Remove cards from pile visually
+                drawnTickets.getChildren().clear();
+                btnKeepTickets.setVisible(false);
+                btnRandomCard.setDisable(false);
+                btnDestinationCard.setDisable(false);
+                updatePlayerDisplays(borderPane);
+                handleTurnEnded(highlightRoutes);
+            });
+        };
         //Set Button Action
         btnDestinationCard.setOnAction(event ->
         {
-            // Use the instance of selectRandomCard
-            randomImages.selectRandomDestinationCard();
-            // Update the ImageView with the new card image
-            destinationImage.setImage(randomImages.selectRandomDestinationCard());
-            //destinationImage.setImage(DestinationCard.cardImageView.getImage());
-            System.out.println("Drew from destination deck");
-            //Creates an event handler to store the selected card in the player's hand when the card is clicked
-            destinationImage.setOnMouseClicked(
-                event1 ->
-                {
-                    //Adds the selected card to the player's hand
-                    currentPlayers.get(0).addDestinationCard(destinationCard);
-                    System.out.println(currentPlayers+" drew "+destinationCard);
-                    //Removes the selected card from the deck
-                    destinationCard.removeCardFromDeck();
-                    //adds the selected card to the current player's list of destination cards
-                    currentPlayers.get(0).addDestinationCard(destinationCard);
-                    //Remove card from pile visually
-                }
-            );
+            if (isHumanTurn() && turnHandler.drawDestinationCards())
+            {
+                System.out.println("Drew from destination deck");
+                showDrawnTickets.run();
+            }
         });
+        //A loaded game may have been saved while the player was choosing tickets
+        if (engine.getPhase() == GameEngine.PHASE_CHOOSE_TICKETS)
+        {
+            showDrawnTickets.run();
+        }
         //----------------- End of event handler for the destination card button -------------------\\
 
         // Add Button and ImageView to Right Side
@@ -634,7 +810,7 @@ public class TicketToRide extends Application
         rightVBox.setMinWidth(400); //Set the width of the VBox
         rightVBox.setBorder(new Border(new BorderStroke(Color.BLACK, BorderStrokeStyle.SOLID, CornerRadii.EMPTY, BorderWidths.DEFAULT)));
         // Add the button and ImageView to the VBox
-        rightVBox.getChildren().addAll(btnRandomCard, cardImage, btnDestinationCard, destinationImage);
+        rightVBox.getChildren().addAll(btnRandomCard, cardImage, btnDestinationCard, drawnTickets, btnKeepTickets);
         borderPane.setRight(rightVBox);
 
         //adds text output area set to bottom of left panes VBox
@@ -670,8 +846,13 @@ public class TicketToRide extends Application
 
         borderPane.setLeft(leftPlayersVBox);
 
+        //Stacks the notification banner over the game, it is only switched on when someone is watching
+        notifications.clear();
+        notifications.setEnabled(!"false".equalsIgnoreCase(System.getProperty(NOTIFICATIONS_PROPERTY)) && hasHumanPlayer());
+        StackPane gameStackPane = new StackPane(borderPane, notifications.getLayer());
+
         //Initializes the scene
-        Scene scene = new Scene(borderPane, WIDTH, HEIGHT);
+        Scene scene = new Scene(gameStackPane, WIDTH, HEIGHT);
 
         Display.ChangeIcon(primaryStage); //Sets the programs icon
         primaryStage.setTitle(TITLE); //Title of Game
@@ -679,100 +860,310 @@ public class TicketToRide extends Application
         primaryStage.setResizable(false);
         primaryStage.setScene(scene);
         primaryStage.show();
+        gameBorderPane = borderPane;
+        gameBoard = highlightRoutes;
+        botThinking = false;
         DisplayCurrentPlayersTurn();
+        startComputerMove();
     }
 
-    //Handles the logic for when the player draws a transportation card
-    private void handleCardDraw(Player currentPlayer, int clickCounter, ImageView cardImage, TransportationCard transportationCard, BorderPane borderPane, HighlightRoutes highlightRoutes, StackPane imageContainer)
+    //Saves the game to a file the player picks, writing it in the background
+    private void saveGame(Stage primaryStage)
     {
-        //Updates the ImageView with the new card image
-        cardImage.setImage(randomImages.selectRandomTransportationCard());
+        FileChooser fileChooser = createSaveFileChooser("Save Game");
+        File file = fileChooser.showSaveDialog(primaryStage);
+        if (file == null)
+        {
+            return;
+        }
+        //Saves a copy, the game may go on while the file is written
+        GameSnapshot snapshot = new GameSnapshot(turnHandler.getEngine().copy(), getPlayerNames(), getPlayerColors());
+        BackgroundTasks.SHARED.io(token ->
+        {
+            snapshot.save(file.toPath());
+            return file;
+        }, saved -> System.out.println("Saved the game to " + saved), e -> showSaveError("The game could not be saved.", e));
+    }
 
-        Color drawnCardColor = randomImages.selectRandomTransportationCardColor(); //this line sucks and we all hate it. it broke everything, order of operations matters
+    //Loads a saved game in the background, then rebuilds the game window around it, no turns are replayed
+    private void loadGame(Stage primaryStage)
+    {
+        FileChooser fileChooser = createSaveFileChooser("Load Game");
+        File file = fileChooser.showOpenDialog(primaryStage);
+        if (file == null)
+        {
+            return;
+        }
+        BackgroundTasks.SHARED.io(token -> GameSnapshot.load(file.toPath()), snapshot ->
+        {
+            resumeGame(primaryStage, snapshot);
+            System.out.println("Loaded the game from " + file);
+        }, e -> showSaveError("The game could not be loaded.", e));
+    }
 
-        //Adds the drawn card to the player's hand
-        currentPlayer.addTransportationCard(transportationCard);
-        //Increments the value in the playerHandMap for the drawn card color
-        currentPlayer.incrementPlayerHandValue(drawnCardColor, 1);
+    //Recreates the players of a saved game and rebuilds the game window around it, no turns are replayed
+    private void resumeGame(Stage primaryStage, GameSnapshot snapshot)
+    {
+        String[] names = snapshot.getPlayerNames();
+        int[] colors = snapshot.getPlayerColors();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < names.length; i++)
+        {
+            players.add(createPlayer(names[i], fromArgb(colors[i])));
+        }
+        currentPlayers.setAll(players);
+        //Split from a copy of the saved generator, so the picks follow from the save without changing the deals
+        GameEngine engine = snapshot.getEngine();
+        randomImages.setRandom(engine.getRandom().copy().split());
+        showGame(primaryStage, engine);
+        turnHandler.restoreDestinationCards();
+    }
 
-        //Displays the current player's hand
-        borderPane.setBottom(display.displayPlayersHand());
+    private String[] getPlayerNames()
+    {
+        String[] names = new String[currentPlayers.size()];
+        for (int i = 0; i < names.length; i++)
+        {
+            names[i] = currentPlayers.get(i).getName();
+        }
+        return names;
+    }
 
-        //Increments the player's clickCounter
-        clickCounter++;
+    private int[] getPlayerColors()
+    {
+        int[] colors = new int[currentPlayers.size()];
+        for (int i = 0; i < colors.length; i++)
+        {
+            colors[i] = toArgb(currentPlayers.get(i).getPlayerColor());
+        }
+        return colors;
+    }
 
-        //Checks if the maximum cards per turn is reached
-        if (clickCounter == MAX_CARDS_PER_TURN)
+    //Opens a saved replay in its own window
+    private static void openReplay(Stage primaryStage)
+    {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Open Replay");
+        File directory = GameRecording.defaultDirectory().toFile();
+        fileChooser.setInitialDirectory(directory.isDirectory() ? directory : new File(System.getProperty("user.home")));
+        fileChooser.getExtensionFilters().add(
+                new FileChooser.ExtensionFilter("Ticket to Ride replays", "*" + GameRecording.FILE_EXTENSION));
+        File file = fileChooser.showOpenDialog(primaryStage);
+        if (file == null)
         {
-            handleMaxCardsDrawn(highlightRoutes, imageContainer, currentPlayer);
+            return;
+        }
+        BackgroundTasks.SHARED.io(token -> GameRecording.load(file.toPath()), recording -> new ReplayViewer(recording).show(),
+                e -> showSaveError("The replay could not be opened.", e));
+    }
 
-            //Resets the clickCounter for the current player
-            clickCounterMap.put(currentPlayer, 0);
+    private static FileChooser createSaveFileChooser(String title)
+    {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle(title);
+        fileChooser.setInitialDirectory(new File(System.getProperty("user.home")));
+        fileChooser.getExtensionFilters().add(
+                new FileChooser.ExtensionFilter("Ticket to Ride games", "*" + GameSnapshot.FILE_EXTENSION));
+        return fileChooser;
+    }
+
+    private static void showSaveError(String message, Exception e)
+    {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Error");
+        alert.setHeaderText(message);
+        alert.setContentText(e.getMessage());
+        alert.showAndWait();
+    }
+
+    //Packs a color as 0xAARRGGBB for the save file
+    static int toArgb(Color color)
+    {
+        return (int) Math.round(color.getOpacity() * 255) << 24
+                | (int) Math.round(color.getRed() * 255) << 16
+                | (int) Math.round(color.getGreen() * 255) << 8
+                | (int) Math.round(color.getBlue() * 255);
+    }
+
+    static Color fromArgb(int argb)
+    {
+        return Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, ((argb >>> 24) & 0xFF) / 255.0);
+    }
+
+    //Handles the logic for when the player draws a transportation card
+    private void handleCardDraw(ImageView cardImage, BorderPane borderPane, BoardRenderer highlightRoutes)
+    {
+        if (!isHumanTurn())
+        {
+            return;
         }
-        else
+        //Remembers whose turn it is so we can tell when the engine moves on to the next player
+        int playerBeforeDraw = turnHandler.getTurn();
+
+        //Draws the card and adds it to the player's hand
+        int drawnCard = turnHandler.drawTransportationCard();
+        if (drawnCard == GameEngine.NONE)
+        {
+            return;
+        }
+
+        //Updates the ImageView with the new card image
+        cardImage.setImage(randomImages.getTransportationCardImage(drawnCard));
+
+        //Displays the current player's hand
+        updatePlayerDisplays(borderPane);
+
+        //Checks if the maximum cards per turn is reached
+        if (turnHandler.getTurn() != playerBeforeDraw || turnHandler.endGame())
         {
-            //Updates the click counter in the map
-            clickCounterMap.put(currentPlayer, clickCounter);
+            handleMaxCardsDrawn(highlightRoutes);
         }
     }
 
     //Handles the logic for when the player has drawn the maximum number of cards per turn (2)
-    private void handleMaxCardsDrawn(HighlightRoutes highlightRoutes, StackPane imageContainer, Player currentPlayer)
+    private void handleMaxCardsDrawn(BoardRenderer highlightRoutes)
     {
         //Displays an alert if the player has already drawn two cards
         twoMaxCardsDrawnAlert();
-        if (turnCounter == 0)
+        handleTurnEnded(highlightRoutes);
+    }
+
+    //Tells the next player it is their turn and updates the board game map for them
+    private void handleTurnEnded(BoardRenderer highlightRoutes)
+    {
+        DisplayCurrentPlayersTurn();
+        //Updates the routes on the existing overlay for the next player
+        highlightRoutes.update(turnHandler.getEngine());
+        startComputerMove();
+    }
+
+    //Can the person at the screen act, false while the game is over or a computer player has the turn
+    private boolean isHumanTurn()
+    {
+        return !botThinking && !turnHandler.endGame() && !turnHandler.getCurrentPlayer().isComputer();
+    }
+
+    //Lets a computer player choose its next move in the background, the UI stays responsive meanwhile
+    private void startComputerMove()
+    {
+        if (botThinking || turnHandler.endGame() || !turnHandler.getCurrentPlayer().isComputer())
+        {
+            return;
+        }
+        botThinking = true;
+        //The bot thinks about a copy, so nothing it does can touch the game being shown
+        GameEngine game = turnHandler.getEngine().copy();
+        Bot bot = getBot();
+        botMove = BackgroundTasks.SHARED.cpu(token -> bot.chooseMove(game, token::isCancelled), this::finishComputerMove, e ->
+        {
+            System.out.println("The computer player could not choose a move: " + e);
+            //The turn is still the computer's, so it has to move anyway or the game stops here
+            finishComputerMove(GameEngine.NONE);
+        });
+    }
+
+    //Plays the move the computer player chose, then lets it continue if its turn isn't over
+    //Never called for a game that has been replaced meanwhile, showGame cancels its move
+    private void finishComputerMove(int move)
+    {
+        botThinking = false;
+        botMove = null;
+        if (move == GameEngine.NONE || !turnHandler.getEngine().isLegal(move))
+        {
+            int[] legalMoves = turnHandler.getEngine().legalMoves();
+            if (legalMoves.length == 0)
+            {
+                return;
+            }
+            //Any legal move keeps the game going, which beats waiting on a player that can't decide
+            notifications.show("Computer player", turnHandler.getCurrentPlayer().getName() + " could not decide, so it made the first move it could.");
+            move = legalMoves[0];
+        }
+        int playerBeforeMove = turnHandler.getTurn();
+        System.out.println(turnHandler.getCurrentPlayer().getName() + ": " + Move.toString(move));
+        turnHandler.playMove(move);
+        updatePlayerDisplays(gameBorderPane);
+        if (turnHandler.getTurn() != playerBeforeMove || turnHandler.endGame())
         {
-            //Moves to the second player
-            turnCounter++;
+            handleTurnEnded(gameBoard);
         }
         else
         {
-            //Moves to the first player
-            turnCounter--;
+            gameBoard.update(turnHandler.getEngine());
+            startComputerMove();
         }
-        DisplayCurrentPlayersTurn();
-        //Updates the board game map for the next player
-        highlightRoutes.highlightRectangles(imageContainer);
+    }
 
-        //resets the current players click counter to zero
-        clickCounterMap.put(currentPlayer, 0);
-        try
+    private Bot getBot()
+    {
+        if (bot == null)
         {
-            //Removes the old highlighted rectangles from the image container
-            imageContainer.getChildren().remove(highlightRoutes.highlightRectangles(imageContainer));
-            //Adds the new highlighted rectangles to the image container
-            imageContainer.getChildren().add(highlightRoutes.highlightRectangles(imageContainer));
+            long millis = Long.getLong(BOT_TIME_PROPERTY, MonteCarloBot.DEFAULT_TIME_BUDGET_MILLIS);
+            bot = "mcts".equals(System.getProperty(BOT_PROPERTY))
+                    ? new MctsBot(getBotPool(), millis, botRandom.split())
+                    : new MonteCarloBot(getBotPool(), millis, botRandom.split());
         }
-        catch (Exception e)
+        return bot;
+    }
+
+    private ForkJoinPool getBotPool()
+    {
+        if (botPool == null)
         {
-            System.out.println("The image container is null.");
-            System.out.println("Shits broke");
+            botPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
         }
+        return botPool;
     }
 
-    //Displays an alert telling the player they cannot draw any more cards
-    private static void twoMaxCardsDrawnAlert()
+    //Refreshes the hands at the bottom and the scores on the left after the engine's state changed
+    private void updatePlayerDisplays(BorderPane borderPane)
     {
-        //Displays an alert if the player has already drawn two cards
-        Alert alert = new Alert(Alert.AlertType.INFORMATION);
-        alert.setTitle("Information");
-        alert.setHeaderText("Turn complete");
-        alert.setContentText("You cannot draw any more cards");
-        alert.showAndWait();
+        borderPane.setBottom(display.displayPlayersHand());
+        if (borderPane.getLeft() instanceof VBox leftPlayersVBox)
+        {
+            leftPlayersVBox.getChildren().setAll(display.getPlayerInfoVBox());
+        }
+    }
+
+    //Tells the player they cannot draw any more cards
+    private void twoMaxCardsDrawnAlert()
+    {
+        notifications.show("Turn complete", "You cannot draw any more cards");
+    }
+
+    //Does anyone at the screen play, computer-only games skip the notifications
+    private boolean hasHumanPlayer()
+    {
+        for (Player player : currentPlayers)
+        {
+            if (!player.isComputer())
+            {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void DisplayCurrentPlayersTurn()
     {
         //gets the position of the current player in the list, and stores it in i
-        int i = turnCounter;
-
-        //Creates a new alert to display which player's turn it is.
-        Alert playerTurnInfo = new Alert(Alert.AlertType.INFORMATION);
-        playerTurnInfo.setTitle("Player " + (i + 1) + "'s Turn");
-        playerTurnInfo.setHeaderText(null); // No header text
-        playerTurnInfo.setContentText("It is " + currentPlayers.get(i).getName() + "'s turn.");
-        playerTurnInfo.showAndWait();
+        int i = turnHandler.getTurn();
+
+        //Announces the final scores instead once the game has ended
+        if (turnHandler.endGame())
+        {
+            StringBuilder scores = new StringBuilder();
+            for (Player player : currentPlayers)
+            {
+                scores.append(player.getName()).append(": ").append(player.getScore()).append(" points\n");
+            }
+            //Stays up, the scores are the last thing the game has to say
+            notifications.showSticky("Game Over", scores.toString().strip());
+            return;
+        }
+
+        //Announces which player's turn it is, play goes on while the banner shows
+        notifications.show("Player " + (i + 1) + "'s Turn", "It is " + currentPlayers.get(i).getName() + "'s turn.");
     }
 
     //Separate method for creating a player object
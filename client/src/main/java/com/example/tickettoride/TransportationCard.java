@@ -1,5 +1,6 @@
 package com.example.tickettoride;
 
+import com.example.tickettoride.engine.BoardDefinition;
 import javafx.collections.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -18,16 +19,7 @@ public class TransportationCard
 
     private final ImageView transportationDeckImageView = new ImageView();
 
-    //Card images
-    private static final String BLUECARD = "/com/example/tickettoride/TransportCards/BlueCard.png";
-    private static final String GREENCARD = "/com/example/tickettoride/TransportCards/GreenCard.png";
-    private static final String BLACKCARD = "/com/example/tickettoride/TransportCards/BlackCard.png";
-    private static final String PINKCARD = "/com/example/tickettoride/TransportCards/PinkCard.png";
-    private static final String REDCARD = "/com/example/tickettoride/TransportCards/RedCard.png";
-    private static final String ORANGECARD = "/com/example/tickettoride/TransportCards/OrangeCard.png";
-    private static final String TAXICARD = "/com/example/tickettoride/TransportCards/RainbowCard.png";
 
-    private static final String BACK = "com/example/tickettoride/TransportCards/BackTransportationCard.png";
 
     //Colors for the cards
     private final Color[] colors = {
@@ -59,7 +51,7 @@ public class TransportationCard
     };
 
     //Array of card image paths
-    public static final String[] CARDIMAGEPATHS = {BLUECARD, GREENCARD, BLACKCARD, PINKCARD, REDCARD, ORANGECARD, TAXICARD};
+    public static final String[] CARDIMAGEPATHS = BoardDefinition.NEW_YORK.getCardImagePaths();
 
     /*
     Color color;
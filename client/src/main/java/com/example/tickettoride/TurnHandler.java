@@ -0,0 +1,316 @@
+package com.example.tickettoride;
+
+import com.example.tickettoride.engine.CardColor;
+import com.example.tickettoride.engine.GameEngine;
+import com.example.tickettoride.engine.GameJournal;
+import com.example.tickettoride.engine.GameRecording;
+import com.example.tickettoride.engine.GameState;
+import com.example.tickettoride.engine.Move;
+import com.example.tickettoride.engine.PlayerState;
+import com.example.tickettoride.engine.RouteDefinitions;
+import com.example.tickettoride.engine.TicketDefinitions;
+import javafx.collections.ObservableList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+/*
+    Class that handles the turn logic
+    -Forwards the current player's actions to the GameEngine as moves
+    -Copies the engine's state back into the Player objects shown by the Display class
+ */
+public class TurnHandler
+{
+    public static final int DRAW_TRANSPORTATION_CARDS = 0;
+    public static final int DRAW_DESTINATION_CARDS = 1;
+    public static final int PLACE_ROUTE = 2;
+    //Date part of the names of replay files
+    private static final DateTimeFormatter REPLAY_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    //The engine that applies the rules
+    private final GameEngine engine;
+    //The players shown by the UI, in seat order
+    private final ObservableList<Player> currentPlayers;
+    //Write-ahead log of the moves, or null when the game isn't being journaled
+    //Only ordered I/O jobs touch it, and they run one at a time, so the FX thread never waits on the disk
+    private GameJournal journal;
+    //The moves of this game for replaying, or null when it isn't being recorded
+    private GameRecording recording;
+
+    public TurnHandler(GameEngine engine, ObservableList<Player> players)
+    {
+        this.engine = engine;
+        this.currentPlayers = players;
+        syncPlayers();
+    }
+
+    //----------------- Sets up the Drawing of the cards per turn -------------------\\
+    //Draws a transportation card from the deck, returning its color index or GameEngine.NONE
+    public int drawTransportationCard()
+    {
+        int move = Move.drawDeck();
+        if (!engine.isLegal(move))
+        {
+            System.out.println("No transportation cards can be drawn right now.");
+            return GameEngine.NONE;
+        }
+        apply(move);
+        syncPlayers();
+        return engine.getLastDrawnCard();
+    }
+
+    //Draws destination tickets for the current player to choose from
+    public boolean drawDestinationCards()
+    {
+        int move = Move.drawTickets();
+        if (!engine.isLegal(move))
+        {
+            System.out.println("No destination cards can be drawn right now.");
+            return false;
+        }
+        apply(move);
+        return true;
+    }
+
+    //Keeps the drawn destination tickets selected by the mask and ends the turn
+    public void keepDestinationCards(int keepMask)
+    {
+        Player player = getCurrentPlayer();
+        int pending = engine.getPendingTicketCount();
+        for (int i = 0; i < pending; i++)
+        {
+            if ((keepMask & (1 << i)) != 0)
+            {
+                player.addDestinationCard(toDestinationCard(engine.getPendingTicket(i)));
+            }
+        }
+        apply(Move.keepTickets(keepMask));
+        syncPlayers();
+    }
+
+    //Method for handling placing routes, returns true if the route was claimed
+    public boolean placeRoute(int routeId)
+    {
+        int move = engine.bestClaimMove(routeId);
+        if (move == GameEngine.NONE)
+        {
+            System.out.println("Cannot claim " + engine.getGraph().routeName(routeId));
+            return false;
+        }
+        apply(move);
+        syncPlayers();
+        return true;
+    }
+
+    //Applies a move chosen by a computer player, returns false if it isn't legal
+    public boolean playMove(int move)
+    {
+        if (!engine.isLegal(move))
+        {
+            return false;
+        }
+        if (Move.type(move) == Move.KEEP_TICKETS)
+        {
+            keepDestinationCards(Move.argument(move));
+            return true;
+        }
+        apply(move);
+        syncPlayers();
+        return true;
+    }
+
+    //Applies the move to the engine and records it in the journal
+    private void apply(int move)
+    {
+        engine.applyMove(move);
+        boolean gameOver = engine.isGameOver();
+        if (recording != null)
+        {
+            recording.add(move);
+            if (gameOver)
+            {
+                saveRecording();
+            }
+        }
+        writeJournal(journal ->
+        {
+            if (gameOver)
+            {
+                //A finished game has nothing to recover
+                this.journal = null;
+                journal.delete();
+            }
+            else
+            {
+                journal.append(move);
+            }
+        });
+    }
+
+    //Records every move from now on, the recording must have been started from this engine's state
+    public void setRecording(GameRecording recording)
+    {
+        this.recording = recording;
+    }
+
+    public GameRecording getRecording()
+    {
+        return recording;
+    }
+
+    //Saves the finished game to the replay directory, in the background
+    private void saveRecording()
+    {
+        GameRecording finished = recording;
+        String name = "replay-" + LocalDateTime.now().format(REPLAY_NAME_FORMAT) + GameRecording.FILE_EXTENSION;
+        Path file = GameRecording.defaultDirectory().resolve(name);
+        BackgroundTasks.SHARED.orderedIo(token ->
+        {
+            finished.save(file);
+            return file;
+        }, saved -> System.out.println("Saved the replay to " + saved),
+                e -> System.out.println("Could not save the replay: " + e.getMessage()));
+    }
+
+    /**
+     * Journals every move from now on, starting from the engine's state as it is now
+     * The journal is written in the background; the game still runs if it can't be.
+     */
+    public void startJournal(Path directory, String[] playerNames, int[] playerColors)
+    {
+        //Copied here, the engine itself only ever changes on the FX thread
+        GameEngine start = engine.copy();
+        BackgroundTasks.SHARED.orderedIo(token ->
+        {
+            journal = GameJournal.start(directory, start, playerNames, playerColors);
+            return null;
+        }, ignored -> { }, e -> System.out.println("Could not start the game journal: " + e.getMessage()));
+    }
+
+    //Syncs and closes the journal, leaving it on disk so the game can be recovered
+    public void closeJournal()
+    {
+        BackgroundTasks.SHARED.orderedIo(token ->
+        {
+            if (journal != null)
+            {
+                GameJournal closing = journal;
+                journal = null;
+                closing.close();
+            }
+            return null;
+        }, ignored -> { }, e -> System.out.println("Could not close the game journal: " + e.getMessage()));
+    }
+
+    /**
+     * JournalWrite interface
+     * One write to the journal, run by writeJournal
+     */
+    @FunctionalInterface
+    private interface JournalWrite
+    {
+        void run(GameJournal journal) throws IOException;
+    }
+
+    //Queues a write behind the journal writes already queued; one that fails switches the journal off
+    private void writeJournal(JournalWrite write)
+    {
+        BackgroundTasks.SHARED.orderedIo(token ->
+        {
+            GameJournal current = journal;
+            if (current == null)
+            {
+                return null;
+            }
+            try
+            {
+                write.run(current);
+            }
+            catch (IOException | RuntimeException e)
+            {
+                //The game goes on without crash recovery rather than stopping
+                journal = null;
+                try
+                {
+                    current.close();
+                }
+                catch (IOException closeFailure)
+                {
+                    e.addSuppressed(closeFailure);
+                }
+                throw e;
+            }
+            return null;
+        }, ignored -> { }, e -> System.out.println("Could not write the game journal, it is switched off: " + e.getMessage()));
+    }
+
+    //Copies scores, taxis and card counts from the engine into the Player objects
+    public void syncPlayers()
+    {
+        syncPlayers(engine, currentPlayers);
+    }
+
+    //Copies the state of any game into the Player objects, replays use this to show past turns
+    static void syncPlayers(GameState game, List<Player> players)
+    {
+        for (int i = 0; i < players.size(); i++)
+        {
+            PlayerState state = game.getPlayer(i);
+            Player player = players.get(i);
+            player.setScore(state.getScore());
+            player.setNumGamePieces(state.getTaxis());
+            player.setNumTransportationCards(state.getHandSize());
+            player.setNumDestinationCards(state.getTickets().size());
+            player.setNumCompletedDestinationCards(game.getCompletedTicketCount(i));
+            for (int color = 0; color < CardColor.COUNT; color++)
+            {
+                player.getHand().set(color, state.getCardCount(color));
+            }
+        }
+    }
+
+    //Gives every Player the DestinationCards of the tickets they hold in the engine, after loading a game
+    public void restoreDestinationCards()
+    {
+        for (int i = 0; i < currentPlayers.size(); i++)
+        {
+            List<DestinationCard> cards = new ArrayList<>();
+            for (int ticket : engine.getPlayer(i).getTickets())
+            {
+                cards.add(toDestinationCard(ticket));
+            }
+            currentPlayers.get(i).setDestinationCards(cards);
+        }
+    }
+
+    //Creates the DestinationCard shown to the player for an engine ticket id
+    private static DestinationCard toDestinationCard(int ticketId)
+    {
+        TicketDefinitions.TicketDefinition ticket = TicketDefinitions.TICKETS.get(ticketId);
+        return new DestinationCard(RouteDefinitions.LOCATION_NAMES[ticket.cityA()],
+                RouteDefinitions.LOCATION_NAMES[ticket.cityB()], ticket.points());
+    }
+
+    //---------------- Checks if the game is over ----------------------\\
+    protected boolean endGame()
+    {
+        return engine.isGameOver();
+    }
+
+    public int getTurn()
+    {
+        return engine.getCurrentPlayer();
+    }
+
+    public Player getCurrentPlayer()
+    {
+        return currentPlayers.get(engine.getCurrentPlayer());
+    }
+
+    public GameEngine getEngine()
+    {
+        return engine;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.tickettoride;
+
+import javafx.animation.FadeTransition;
+import javafx.animation.PauseTransition;
+import javafx.animation.SequentialTransition;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * TurnNotifications class
+ * Shows short messages such as whose turn it is in a banner over the top of the board, one after
+ * the other. Unlike an Alert it never blocks the FX thread or waits for a click, so play goes on
+ * while a message shows, and the banner and its fade animation are built once and reused.
+ * While turned off (for fast-forward and computer-only games) messages go to the console instead.
+ */
+public class TurnNotifications
+{
+    public static final Duration FADE_TIME = Duration.millis(200);
+    public static final Duration DISPLAY_TIME = Duration.millis(1500);
+    //Messages waiting beyond this drop the oldest, they are out of date by the time they would show
+    private static final int MAX_QUEUED = 3;
+
+    //Title and text of a waiting message, sticky ones stay up until the next message arrives
+    private record Notification(String title, String message, boolean sticky) {}
+
+    private final StackPane layer = new StackPane();
+    private final VBox banner = new VBox(4);
+    private final Label titleLabel = new Label();
+    private final Label messageLabel = new Label();
+    //Fades a message in and out again, and fades a sticky one in to stay
+    private final SequentialTransition showAndHide;
+    private final FadeTransition stickyFadeIn = new FadeTransition(FADE_TIME, banner);
+    private final Deque<Notification> queue = new ArrayDeque<>();
+    private boolean enabled = true;
+    private boolean showing;
+    //Is the message showing a sticky one
+    private boolean sticky;
+
+    public TurnNotifications()
+    {
+        titleLabel.setStyle("-fx-text-fill: white; -fx-font-size: 22px; -fx-font-weight: bold;");
+        messageLabel.setStyle("-fx-text-fill: white; -fx-font-size: 16px;");
+        messageLabel.setWrapText(true);
+        banner.getChildren().addAll(titleLabel, messageLabel);
+        banner.setAlignment(Pos.CENTER);
+        banner.setPadding(new Insets(12, 24, 12, 24));
+        banner.setMaxSize(VBox.USE_PREF_SIZE, VBox.USE_PREF_SIZE);
+        banner.setStyle("-fx-background-color: rgba(0, 0, 0, 0.70); -fx-background-radius: 10; "
+                + "-fx-border-color: black; -fx-border-radius: 10; -fx-border-width: 3;");
+        banner.setOpacity(0);
+        banner.setVisible(false);
+
+        //Clicks go through to the board underneath
+        layer.setMouseTransparent(true);
+        layer.setPickOnBounds(false);
+        layer.setAlignment(Pos.TOP_CENTER);
+        layer.setPadding(new Insets(60, 0, 0, 0));
+        layer.getChildren().add(banner);
+
+        FadeTransition fadeIn = new FadeTransition(FADE_TIME, banner);
+        fadeIn.setFromValue(0);
+        fadeIn.setToValue(1);
+        stickyFadeIn.setToValue(1);
+        FadeTransition fadeOut = new FadeTransition(FADE_TIME, banner);
+        fadeOut.setFromValue(1);
+        fadeOut.setToValue(0);
+        showAndHide = new SequentialTransition(fadeIn, new PauseTransition(DISPLAY_TIME), fadeOut);
+        showAndHide.setOnFinished(event -> showNext());
+    }
+
+    //The layer to stack over the game, it only covers the board where the banner is
+    public Node getLayer()
+    {
+        return layer;
+    }
+
+    //Queues a message that fades out on its own
+    public void show(String title, String message)
+    {
+        add(new Notification(title, message, false));
+    }
+
+    //Queues a message that stays up until another one is shown, e.g. the final scores
+    public void showSticky(String title, String message)
+    {
+        add(new Notification(title, message, true));
+    }
+
+    private void add(Notification notification)
+    {
+        if (!enabled)
+        {
+            System.out.println(notification.title() + ": " + notification.message());
+            return;
+        }
+        queue.addLast(notification);
+        while (queue.size() > MAX_QUEUED)
+        {
+            queue.removeFirst();
+        }
+        //A sticky message never finishes by itself, so the next one replaces it right away
+        if (!showing || sticky)
+        {
+            showNext();
+        }
+    }
+
+    private void showNext()
+    {
+        Notification next = queue.pollFirst();
+        if (next == null)
+        {
+            showing = false;
+            banner.setVisible(false);
+            return;
+        }
+        showing = true;
+        sticky = next.sticky();
+        titleLabel.setText(next.title());
+        messageLabel.setText(next.message());
+        banner.setVisible(true);
+        showAndHide.stop();
+        stickyFadeIn.stop();
+        if (sticky)
+        {
+            stickyFadeIn.playFromStart();
+        }
+        else
+        {
+            showAndHide.playFromStart();
+        }
+    }
+
+    //Drops waiting messages and hides the banner
+    public void clear()
+    {
+        queue.clear();
+        showAndHide.stop();
+        stickyFadeIn.stop();
+        banner.setOpacity(0);
+        banner.setVisible(false);
+        showing = false;
+        sticky = false;
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    //Turning the banner off also drops whatever it still had to show
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+        if (!enabled)
+        {
+            clear();
+        }
+    }
+}
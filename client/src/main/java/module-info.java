@@ -1,4 +1,6 @@
 module com.example.tickettoride {
+    requires transitive com.example.tickettoride.engine;
+
     requires javafx.controls;
     requires javafx.fxml;
 
@@ -8,4 +10,4 @@ module com.example.tickettoride {
 
     opens com.example.tickettoride to javafx.fxml;
     exports com.example.tickettoride;
-}
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package com.example.tickettoride.engine;
+
+import java.util.List;
+
+/**
+ * BoardDefinition class
+ * Everything that describes a board: its locations, its routes with where they are drawn on the
+ * map, its destination tickets and the card images. It is read from a board file by BoardLoader,
+ * so a different map only needs a different file.
+ * Route ids and ticket ids are the indexes into the route and ticket lists.
+ */
+public final class BoardDefinition
+{
+    //Board file of the New York board, on the classpath
+    public static final String NEW_YORK_RESOURCE = "/com/example/tickettoride/boards/new-york.board";
+
+    //The New York board, loaded from its file (or the compiled cache of it) when first used
+    public static final BoardDefinition NEW_YORK = BoardLoader.load(NEW_YORK_RESOURCE);
+
+    private final String name;
+    private final String mapImagePath;
+    private final int mapWidth;
+    private final int mapHeight;
+    private final String transportationBackPath;
+    private final String destinationBackPath;
+    private final String[] locationKeys;
+    private final String[] locationNames;
+    private final List<RouteDefinitions.RouteDefinition> routes;
+    private final RouteShape[] routeShapes;
+    private final List<TicketDefinitions.TicketDefinition> tickets;
+    private final String[] ticketImagePaths;
+    //Image of each transportation card, indexed by CardColor ordinal
+    private final String[] cardImagePaths;
+
+    BoardDefinition(String name, String mapImagePath, int mapWidth, int mapHeight,
+                    String transportationBackPath, String destinationBackPath,
+                    String[] locationKeys, String[] locationNames,
+                    List<RouteDefinitions.RouteDefinition> routes, RouteShape[] routeShapes,
+                    List<TicketDefinitions.TicketDefinition> tickets, String[] ticketImagePaths,
+                    String[] cardImagePaths)
+    {
+        this.name = name;
+        this.mapImagePath = mapImagePath;
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        this.transportationBackPath = transportationBackPath;
+        this.destinationBackPath = destinationBackPath;
+        this.locationKeys = locationKeys;
+        this.locationNames = locationNames;
+        this.routes = List.copyOf(routes);
+        this.routeShapes = routeShapes;
+        this.tickets = List.copyOf(tickets);
+        this.ticketImagePaths = ticketImagePaths;
+        this.cardImagePaths = cardImagePaths;
+    }
+
+    //Builds the array based graph the engine plays on
+    public RouteGraph toGraph()
+    {
+        return new RouteGraph(routes, locationNames);
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    //Classpath path of the map image
+    public String getMapImagePath()
+    {
+        return mapImagePath;
+    }
+
+    public int getMapWidth()
+    {
+        return mapWidth;
+    }
+
+    public int getMapHeight()
+    {
+        return mapHeight;
+    }
+
+    public String getTransportationBackPath()
+    {
+        return transportationBackPath;
+    }
+
+    public String getDestinationBackPath()
+    {
+        return destinationBackPath;
+    }
+
+    //Keys the board file uses for the locations, e.g. "TIMES_SQUARE"
+    public String[] getLocationKeys()
+    {
+        return locationKeys.clone();
+    }
+
+    public String[] getLocationNames()
+    {
+        return locationNames.clone();
+    }
+
+    public List<RouteDefinitions.RouteDefinition> getRoutes()
+    {
+        return routes;
+    }
+
+    //Where each route is drawn on the map, indexed by route id
+    public RouteShape[] getRouteShapes()
+    {
+        return routeShapes.clone();
+    }
+
+    public List<TicketDefinitions.TicketDefinition> getTickets()
+    {
+        return tickets;
+    }
+
+    //Card image of each destination ticket, indexed by ticket id
+    public String[] getTicketImagePaths()
+    {
+        return ticketImagePaths.clone();
+    }
+
+    //Image of each transportation card, indexed by CardColor ordinal
+    public String[] getCardImagePaths()
+    {
+        return cardImagePaths.clone();
+    }
+}
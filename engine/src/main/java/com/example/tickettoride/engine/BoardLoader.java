@@ -0,0 +1,459 @@
+package com.example.tickettoride.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * BoardLoader class
+ * Reads board files into BoardDefinitions. The text file is only parsed the first time: the
+ * result is written to a binary cache next to the user's other game files, and later starts
+ * memory-map that cache and read the values straight out of it. The cache stores a checksum of
+ * the text it was compiled from, so editing the board file rebuilds it automatically.
+ *
+ * Board file lines (# starts a comment):
+ *   board <name>
+ *   map <image> <width> <height>
+ *   transportation-back <image>
+ *   destination-back <image>
+ *   location <KEY> <display name>
+ *   route <name> <from> <to> <color> <length> <points> <x> <y> <width> <height> <rotation>
+ *   ticket <from> <to> <points> <image>
+ *   card <color> <image>
+ * Locations, routes and tickets get ids in the order they are listed. Colors are CardColor
+ * names, or GREY for routes that take any single color.
+ */
+public final class BoardLoader
+{
+    //System property to put the compiled boards somewhere other than ~/.tickettoride/cache
+    public static final String CACHE_DIR_PROPERTY = "tickettoride.cacheDir";
+    //Extension of the compiled cache files
+    public static final String CACHE_EXTENSION = ".bin";
+
+    //"TTRB", marks a compiled board file
+    private static final int MAGIC = 0x54545242;
+    //Bumped whenever the binary layout changes, so old caches are rebuilt
+    private static final int FORMAT_VERSION = 1;
+
+    private BoardLoader()
+    {
+    }
+
+    //Loads a board file from the classpath, using the default cache directory
+    public static BoardDefinition load(String resource)
+    {
+        return load(resource, defaultCacheDirectory());
+    }
+
+    /**
+     * Loads a board file from the classpath
+     * @param cacheDirectory where the compiled board is kept, or null to always parse the text
+     */
+    public static BoardDefinition load(String resource, Path cacheDirectory)
+    {
+        byte[] source = readResource(resource);
+        CRC32 crc = new CRC32();
+        crc.update(source);
+        long checksum = crc.getValue();
+
+        Path cacheFile = null;
+        if (cacheDirectory != null)
+        {
+            String fileName = resource.substring(resource.lastIndexOf('/') + 1);
+            cacheFile = cacheDirectory.resolve(fileName + CACHE_EXTENSION);
+            BoardDefinition cached = readCache(cacheFile, checksum);
+            if (cached != null)
+            {
+                return cached;
+            }
+        }
+
+        BoardDefinition board = parse(new String(source, StandardCharsets.UTF_8), resource);
+        if (cacheFile != null)
+        {
+            try
+            {
+                writeCache(board, checksum, cacheFile);
+            }
+            catch (IOException e)
+            {
+                //The game works without the cache, it just parses the text again next time
+            }
+        }
+        return board;
+    }
+
+    private static Path defaultCacheDirectory()
+    {
+        String directory = System.getProperty(CACHE_DIR_PROPERTY);
+        if (directory != null)
+        {
+            return Path.of(directory);
+        }
+        return Path.of(System.getProperty("user.home"), ".tickettoride", "cache");
+    }
+
+    private static byte[] readResource(String resource)
+    {
+        try (InputStream in = BoardLoader.class.getResourceAsStream(resource))
+        {
+            if (in == null)
+            {
+                throw new IllegalArgumentException("Missing board file " + resource);
+            }
+            return in.readAllBytes();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Could not read board file " + resource, e);
+        }
+    }
+
+    //------------------------------ Text format -------------------------------\\
+
+    //Parses the text of a board file, the source is only used in error messages
+    public static BoardDefinition parse(String text, String source)
+    {
+        String name = null;
+        String mapImage = null;
+        int mapWidth = 0;
+        int mapHeight = 0;
+        String transportationBack = null;
+        String destinationBack = null;
+        List<String> locationKeys = new ArrayList<>();
+        List<String> locationNames = new ArrayList<>();
+        Map<String, Integer> locationIds = new HashMap<>();
+        List<RouteDefinitions.RouteDefinition> routes = new ArrayList<>();
+        List<RouteShape> shapes = new ArrayList<>();
+        List<TicketDefinitions.TicketDefinition> tickets = new ArrayList<>();
+        List<String> ticketImages = new ArrayList<>();
+        String[] cardImages = new String[CardColor.COUNT];
+
+        String[] lines = text.split("\\R");
+        for (int lineNumber = 1; lineNumber <= lines.length; lineNumber++)
+        {
+            String line = lines[lineNumber - 1].strip();
+            if (line.isEmpty() || line.startsWith("#"))
+            {
+                continue;
+            }
+            String[] fields = line.split("\\s+");
+            String where = source + " line " + lineNumber;
+            try
+            {
+                switch (fields[0])
+                {
+                    case "board" -> name = restOfLine(line, 1);
+                    case "map" ->
+                    {
+                        expectFields(fields, 4, where);
+                        mapImage = fields[1];
+                        mapWidth = Integer.parseInt(fields[2]);
+                        mapHeight = Integer.parseInt(fields[3]);
+                    }
+                    case "transportation-back" -> transportationBack = fields[1];
+                    case "destination-back" -> destinationBack = fields[1];
+                    case "location" ->
+                    {
+                        if (locationIds.putIfAbsent(fields[1], locationKeys.size()) != null)
+                        {
+                            throw new IllegalArgumentException(where + ": location " + fields[1] + " is listed twice");
+                        }
+                        locationKeys.add(fields[1]);
+                        locationNames.add(restOfLine(line, 2));
+                    }
+                    case "route" ->
+                    {
+                        expectFields(fields, 12, where);
+                        routes.add(new RouteDefinitions.RouteDefinition(fields[1],
+                                location(locationIds, fields[2], where), location(locationIds, fields[3], where),
+                                routeColor(fields[4]), Integer.parseInt(fields[5]), Integer.parseInt(fields[6])));
+                        shapes.add(new RouteShape(Double.parseDouble(fields[7]), Double.parseDouble(fields[8]),
+                                Double.parseDouble(fields[9]), Double.parseDouble(fields[10]), Double.parseDouble(fields[11])));
+                    }
+                    case "ticket" ->
+                    {
+                        expectFields(fields, 5, where);
+                        tickets.add(new TicketDefinitions.TicketDefinition(location(locationIds, fields[1], where),
+                                location(locationIds, fields[2], where), Integer.parseInt(fields[3])));
+                        ticketImages.add(fields[4]);
+                    }
+                    case "card" ->
+                    {
+                        expectFields(fields, 3, where);
+                        cardImages[CardColor.valueOf(fields[1]).ordinal()] = fields[2];
+                    }
+                    default -> throw new IllegalArgumentException(where + ": unknown entry " + fields[0]);
+                }
+            }
+            catch (ArrayIndexOutOfBoundsException e)
+            {
+                throw new IllegalArgumentException(where + ": missing value", e);
+            }
+            catch (IllegalArgumentException e)
+            {
+                //Number and color parse errors don't say where they happened
+                if (e.getMessage() != null && e.getMessage().startsWith(source))
+                {
+                    throw e;
+                }
+                throw new IllegalArgumentException(where + ": " + e.getMessage(), e);
+            }
+        }
+
+        if (name == null || mapImage == null)
+        {
+            throw new IllegalArgumentException(source + ": the board and map entries are required");
+        }
+        for (int color = 0; color < CardColor.COUNT; color++)
+        {
+            if (cardImages[color] == null)
+            {
+                throw new IllegalArgumentException(source + ": no card image for " + CardColor.of(color));
+            }
+        }
+        return new BoardDefinition(name, mapImage, mapWidth, mapHeight, transportationBack, destinationBack,
+                locationKeys.toArray(new String[0]), locationNames.toArray(new String[0]),
+                routes, shapes.toArray(new RouteShape[0]), tickets, ticketImages.toArray(new String[0]), cardImages);
+    }
+
+    private static void expectFields(String[] fields, int count, String where)
+    {
+        if (fields.length != count)
+        {
+            throw new IllegalArgumentException(where + ": expected " + (count - 1) + " values after " + fields[0] + ", found " + (fields.length - 1));
+        }
+    }
+
+    //Everything after the first skip words of the line
+    private static String restOfLine(String line, int skip)
+    {
+        String[] parts = line.split("\\s+", skip + 1);
+        return parts[skip];
+    }
+
+    private static int location(Map<String, Integer> locationIds, String key, String where)
+    {
+        Integer id = locationIds.get(key);
+        if (id == null)
+        {
+            throw new IllegalArgumentException(where + ": unknown location " + key);
+        }
+        return id;
+    }
+
+    private static int routeColor(String color)
+    {
+        return color.equals("GREY") ? RouteDefinitions.GREY : CardColor.valueOf(color).ordinal();
+    }
+
+    //----------------------------- Binary cache ------------------------------\\
+
+    //Reads a compiled board, returns null if it is missing, stale or unreadable
+    private static BoardDefinition readCache(Path cacheFile, long checksum)
+    {
+        if (!Files.isRegularFile(cacheFile))
+        {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ))
+        {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != checksum)
+            {
+                return null;
+            }
+            return readBoard(buffer);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            //A damaged cache is simply rebuilt from the text
+            return null;
+        }
+    }
+
+    private static BoardDefinition readBoard(ByteBuffer buffer)
+    {
+        String name = readString(buffer);
+        String mapImage = readString(buffer);
+        int mapWidth = buffer.getInt();
+        int mapHeight = buffer.getInt();
+        String transportationBack = readString(buffer);
+        String destinationBack = readString(buffer);
+
+        int locationCount = buffer.getInt();
+        String[] locationKeys = new String[locationCount];
+        String[] locationNames = new String[locationCount];
+        for (int i = 0; i < locationCount; i++)
+        {
+            locationKeys[i] = readString(buffer);
+            locationNames[i] = readString(buffer);
+        }
+
+        int routeCount = buffer.getInt();
+        List<RouteDefinitions.RouteDefinition> routes = new ArrayList<>(routeCount);
+        RouteShape[] shapes = new RouteShape[routeCount];
+        for (int i = 0; i < routeCount; i++)
+        {
+            routes.add(new RouteDefinitions.RouteDefinition(readString(buffer), buffer.getInt(), buffer.getInt(),
+                    buffer.getInt(), buffer.getInt(), buffer.getInt()));
+            shapes[i] = new RouteShape(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                    buffer.getDouble(), buffer.getDouble());
+        }
+
+        int ticketCount = buffer.getInt();
+        List<TicketDefinitions.TicketDefinition> tickets = new ArrayList<>(ticketCount);
+        String[] ticketImages = new String[ticketCount];
+        for (int i = 0; i < ticketCount; i++)
+        {
+            tickets.add(new TicketDefinitions.TicketDefinition(buffer.getInt(), buffer.getInt(), buffer.getInt()));
+            ticketImages[i] = readString(buffer);
+        }
+
+        String[] cardImages = new String[CardColor.COUNT];
+        for (int i = 0; i < CardColor.COUNT; i++)
+        {
+            cardImages[i] = readString(buffer);
+        }
+        return new BoardDefinition(name, mapImage, mapWidth, mapHeight, transportationBack, destinationBack,
+                locationKeys, locationNames, routes, shapes, tickets, ticketImages, cardImages);
+    }
+
+    //Writes the compiled board to a temporary file first, so a half written cache is never read
+    private static void writeCache(BoardDefinition board, long checksum, Path cacheFile) throws IOException
+    {
+        Files.createDirectories(cacheFile.getParent());
+        ByteBuffer buffer = ByteBuffer.allocate(binarySize(board));
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(checksum);
+        writeString(buffer, board.getName());
+        writeString(buffer, board.getMapImagePath());
+        buffer.putInt(board.getMapWidth()).putInt(board.getMapHeight());
+        writeString(buffer, board.getTransportationBackPath());
+        writeString(buffer, board.getDestinationBackPath());
+
+        String[] locationKeys = board.getLocationKeys();
+        String[] locationNames = board.getLocationNames();
+        buffer.putInt(locationKeys.length);
+        for (int i = 0; i < locationKeys.length; i++)
+        {
+            writeString(buffer, locationKeys[i]);
+            writeString(buffer, locationNames[i]);
+        }
+
+        RouteShape[] shapes = board.getRouteShapes();
+        buffer.putInt(board.getRoutes().size());
+        for (int i = 0; i < shapes.length; i++)
+        {
+            RouteDefinitions.RouteDefinition route = board.getRoutes().get(i);
+            writeString(buffer, route.name());
+            buffer.putInt(route.cityA()).putInt(route.cityB()).putInt(route.color()).putInt(route.length()).putInt(route.points());
+            buffer.putDouble(shapes[i].x()).putDouble(shapes[i].y()).putDouble(shapes[i].width())
+                    .putDouble(shapes[i].height()).putDouble(shapes[i].rotation());
+        }
+
+        String[] ticketImages = board.getTicketImagePaths();
+        buffer.putInt(board.getTickets().size());
+        for (int i = 0; i < ticketImages.length; i++)
+        {
+            TicketDefinitions.TicketDefinition ticket = board.getTickets().get(i);
+            buffer.putInt(ticket.cityA()).putInt(ticket.cityB()).putInt(ticket.points());
+            writeString(buffer, ticketImages[i]);
+        }
+
+        for (String cardImage : board.getCardImagePaths())
+        {
+            writeString(buffer, cardImage);
+        }
+
+        buffer.flip();
+        Path temporary = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE))
+        {
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+        }
+        try
+        {
+            Files.move(temporary, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(temporary, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    //Exact number of bytes writeCache needs
+    private static int binarySize(BoardDefinition board)
+    {
+        int size = Integer.BYTES * 2 + Long.BYTES;
+        size += stringSize(board.getName()) + stringSize(board.getMapImagePath()) + Integer.BYTES * 2;
+        size += stringSize(board.getTransportationBackPath()) + stringSize(board.getDestinationBackPath());
+        size += Integer.BYTES;
+        String[] locationKeys = board.getLocationKeys();
+        String[] locationNames = board.getLocationNames();
+        for (int i = 0; i < locationKeys.length; i++)
+        {
+            size += stringSize(locationKeys[i]) + stringSize(locationNames[i]);
+        }
+        size += Integer.BYTES;
+        for (RouteDefinitions.RouteDefinition route : board.getRoutes())
+        {
+            size += stringSize(route.name()) + Integer.BYTES * 5 + Double.BYTES * 5;
+        }
+        size += Integer.BYTES;
+        for (String ticketImage : board.getTicketImagePaths())
+        {
+            size += Integer.BYTES * 3 + stringSize(ticketImage);
+        }
+        for (String cardImage : board.getCardImagePaths())
+        {
+            size += stringSize(cardImage);
+        }
+        return size;
+    }
+
+    //Strings are stored as a byte count followed by UTF-8 bytes, a count of -1 means null
+    private static int stringSize(String value)
+    {
+        return Integer.BYTES + (value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void writeString(ByteBuffer buffer, String value)
+    {
+        if (value == null)
+        {
+            buffer.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer)
+    {
+        int length = buffer.getInt();
+        if (length < 0)
+        {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
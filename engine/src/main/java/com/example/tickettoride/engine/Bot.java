@@ -0,0 +1,25 @@
+package com.example.tickettoride.engine;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bot interface
+ * A computer player. Implementations may think for a long time and on many threads, so the UI
+ * calls chooseMove from a background thread, and can call the search off through cancelled.
+ */
+public interface Bot
+{
+    /**
+     * Picks a move for the current player of the game, the game itself is not changed
+     * @param cancelled checked while thinking, once it returns true the bot stops early and
+     *                  returns the best move it has found so far
+     * @return one of the game's legal moves, or GameEngine.NONE if there are none
+     */
+    int chooseMove(GameEngine game, BooleanSupplier cancelled);
+
+    //Picks a move using the bot's whole time budget
+    default int chooseMove(GameEngine game)
+    {
+        return chooseMove(game, () -> false);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.tickettoride.engine;
+
+/**
+ * CardColor enum
+ * The seven transportation card colors. A card's ordinal is its color index everywhere: in
+ * Hand and the deck counts, in moves and saved games, and in any per-color table such as
+ * BoardDefinition's card images. The order is fixed; adding or reordering colors changes the
+ * meaning of saved games and of every table indexed by it.
+ */
+public enum CardColor
+{
+    BLUE, GREEN, BLACK, PINK, RED, ORANGE, TAXI;
+
+    //Number of card colors, used to size the hand and deck arrays
+    public static final int COUNT = 7;
+
+    //Index of the taxi (rainbow) card, which is wild when claiming routes
+    public static final int TAXI_INDEX = 6;
+
+    //Cached copy of values() so lookups by index don't allocate a new array every time
+    private static final CardColor[] VALUES = values();
+
+    //Returns the card color for the given index
+    public static CardColor of(int index)
+    {
+        return VALUES[index];
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.tickettoride.engine;
+
+/**
+ * DestinationTracker class
+ * Keeps a disjoint-set (union-find) over the board's locations for every player. Each claimed
+ * route merges the sets of its two locations, so checking whether a destination ticket is
+ * complete is just comparing the set roots of its two locations, with no graph search.
+ * Uses union by size without path compression, so every set is a tree of logarithmic depth and
+ * each union changes only one parent. The unions are kept on a stack, which lets rollback undo
+ * them in reverse when the engine unmakes a move.
+ */
+public class DestinationTracker
+{
+    private final int locationCount;
+    //Parent of each location, one block of locationCount entries per player
+    private final int[] parent;
+    //Size of each set, only meaningful for set roots
+    private final int[] size;
+    //Root hung under another root by each union, in order
+    private final int[] merged;
+    private int mergeCount;
+
+    public DestinationTracker(int numPlayers, int locationCount)
+    {
+        this.locationCount = locationCount;
+        parent = new int[numPlayers * locationCount];
+        size = new int[numPlayers * locationCount];
+        for (int i = 0; i < parent.length; i++)
+        {
+            //Every location starts in a set of its own
+            parent[i] = i;
+            size[i] = 1;
+        }
+        //Every union joins two sets, so there can't be more than one per entry
+        merged = new int[parent.length];
+    }
+
+    //Records that the player has claimed a route between the two locations
+    public void connect(int player, int locationA, int locationB)
+    {
+        int rootA = find(player * locationCount + locationA);
+        int rootB = find(player * locationCount + locationB);
+        if (rootA == rootB)
+        {
+            return;
+        }
+        //Hangs the smaller set under the larger one to keep the trees shallow
+        if (size[rootA] < size[rootB])
+        {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        merged[mergeCount++] = rootB;
+    }
+
+    //Number of unions made so far, rollback(mark) undoes the ones after it
+    public int mark()
+    {
+        return mergeCount;
+    }
+
+    //Undoes the unions made since the mark, latest first
+    public void rollback(int mark)
+    {
+        if (mark < 0 || mark > mergeCount)
+        {
+            throw new IllegalStateException("Tracker mark " + mark + " is not between 0 and " + mergeCount);
+        }
+        while (mergeCount > mark)
+        {
+            int root = merged[--mergeCount];
+            size[parent[root]] -= size[root];
+            parent[root] = root;
+        }
+    }
+
+    //Are the two locations linked by the player's routes
+    public boolean isConnected(int player, int locationA, int locationB)
+    {
+        return find(player * locationCount + locationA) == find(player * locationCount + locationB);
+    }
+
+    //Is the ticket completed by the player's routes
+    public boolean isComplete(int player, int ticket)
+    {
+        TicketDefinitions.TicketDefinition definition = TicketDefinitions.TICKETS.get(ticket);
+        return isConnected(player, definition.cityA(), definition.cityB());
+    }
+
+    //Finds the root of the set holding the entry, never changing the trees so rollback stays exact
+    private int find(int entry)
+    {
+        while (parent[entry] != entry)
+        {
+            entry = parent[entry];
+        }
+        return entry;
+    }
+}
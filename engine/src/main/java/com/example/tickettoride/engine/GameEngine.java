@@ -0,0 +1,1026 @@
+package com.example.tickettoride.engine;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * GameEngine class
+ * Owns the full state of a game (decks, players, route ownership and turn phases) and applies
+ * the rules to it. It has no JavaFX dependencies, so games can be run without a Stage: the UI
+ * only forwards the player's clicks as moves and redraws from the engine's state.
+ * Moves are encoded as ints, see the Move class.
+ * Every move made pushes an undo frame of the few values it overwrites, so searches can make and
+ * unmake moves in place instead of copying the game for every position they look at. Moves
+ * applied outside a search are final and keep no frame, so a game played to the end doesn't
+ * carry its whole history.
+ */
+public class GameEngine implements GameState
+{
+    //-------------------------- Rule constants ----------------------------\\
+    public static final int MIN_PLAYERS = 2;
+    public static final int MAX_PLAYERS = 4;
+    public static final int STARTING_TAXIS = 15;
+    public static final int STARTING_TRANSPORTATION_CARDS = 2;
+    public static final int STARTING_DESTINATION_CARDS = 2;
+    public static final int DESTINATION_CARDS_PER_DRAW = 2;
+    //Tickets a player has to keep out of each draw, or all of them if fewer were drawn
+    public static final int MIN_TICKETS_KEPT = 1;
+    public static final int MAX_CARDS_PER_TURN = 2;
+    public static final int FACE_UP_SLOTS = 5;
+    //Three face up taxis cause the face up cards to be discarded and replaced
+    public static final int MAX_FACE_UP_TAXIS = 3;
+    //The last round starts once a player has this many taxis or fewer
+    public static final int END_GAME_TAXIS = 2;
+    //Deck composition: 6 cards of each color plus 8 taxis
+    public static final int CARDS_PER_COLOR = 6;
+    public static final int TAXI_CARDS = 8;
+
+    //-------------------------- Turn phases ----------------------------\\
+    //Start of a turn, any action may be taken
+    public static final int PHASE_START = 0;
+    //The player has drawn one transportation card and may draw one more
+    public static final int PHASE_SECOND_DRAW = 1;
+    //The player has drawn destination tickets and must choose which to keep
+    public static final int PHASE_CHOOSE_TICKETS = 2;
+    public static final int PHASE_GAME_OVER = 3;
+
+    //Marks an empty face up slot or an unowned route
+    public static final int NONE = -1;
+
+    //Seeded generator behind every shuffle, see GameRandom
+    private final GameRandom random;
+    private final RouteGraph graph;
+    //Finds the route claims a hand can pay for, see MoveGenerator
+    private final MoveGenerator moveGenerator;
+    private final PlayerState[] players;
+
+    //Transportation cards, stored by color index
+    private final TransportationDeck transportationDeck;
+    private final int[] faceUp = new int[FACE_UP_SLOTS];
+
+    //Destination tickets, drawn from the end of the list and returned to the front
+    private final List<Integer> destinationDeck = new ArrayList<>();
+    private final int[] pendingTickets = new int[DESTINATION_CARDS_PER_DRAW];
+    private int pendingTicketCount;
+
+    //Which player owns which route, as bit masks
+    private final RouteOwnership ownership;
+    //Which locations each player has connected, for destination tickets
+    private final DestinationTracker destinationTracker;
+
+    private int currentPlayer;
+    private int phase;
+    private int turnNumber;
+    //Turns left once the last round has started, NONE before that
+    private int finalTurnsLeft = NONE;
+    private int lastDrawnCard = NONE;
+    //Zobrist hash of what the players can see, kept up to date by every change, see Zobrist
+    private long hash;
+
+    //Scratch space reused while checking moves so applyMove doesn't allocate
+    private final int[] moveBuffer = new int[Move.MAX_LEGAL_MOVES];
+
+    //-------------------------- Undo frames ----------------------------\\
+    //Layout of the frame each move pushes, what unmake needs that the move itself doesn't say
+    private static final int FRAME_MOVE = 0;
+    private static final int FRAME_PLAYER = 1;
+    private static final int FRAME_PHASE = 2;
+    private static final int FRAME_TURN = 3;
+    private static final int FRAME_FINAL_TURNS = 4;
+    private static final int FRAME_LAST_DRAWN = 5;
+    private static final int FRAME_PENDING_COUNT = 6;
+    private static final int FRAME_PENDING_TICKETS = 7;
+    private static final int FRAME_FACE_UP = FRAME_PENDING_TICKETS + DESTINATION_CARDS_PER_DRAW;
+    private static final int FRAME_SCORES = FRAME_FACE_UP + FACE_UP_SLOTS;
+    //Cards of the chosen color and taxis a route claim paid
+    private static final int FRAME_COLOR_CARDS = FRAME_SCORES + MAX_PLAYERS;
+    private static final int FRAME_TAXI_CARDS = FRAME_COLOR_CARDS + 1;
+    private static final int FRAME_DECK_MARK = FRAME_TAXI_CARDS + 1;
+    private static final int FRAME_TRACKER_MARK = FRAME_DECK_MARK + 1;
+    //Longs are kept as their high and low halves
+    private static final int FRAME_HASH = FRAME_TRACKER_MARK + 1;
+    private static final int FRAME_RANDOM = FRAME_HASH + 2;
+    private static final int FRAME_SIZE = FRAME_RANDOM + 2;
+
+    //One frame per move made, grown by doubling so making moves doesn't allocate once it is warm
+    private int[] undoStack = new int[64 * FRAME_SIZE];
+    private int undoDepth;
+
+    public GameEngine(int numPlayers)
+    {
+        this(numPlayers, GameRandom.unseeded());
+    }
+
+    //The same seed and the same moves always play out the same game
+    public GameEngine(int numPlayers, long seed)
+    {
+        this(numPlayers, new GameRandom(seed));
+    }
+
+    public GameEngine(int numPlayers, GameRandom random)
+    {
+        this(numPlayers, random, true);
+    }
+
+    //Creates the engine, only dealing the tickets and starting hands when deal is set
+    private GameEngine(int numPlayers, GameRandom random, boolean deal)
+    {
+        if (numPlayers < MIN_PLAYERS || numPlayers > MAX_PLAYERS)
+        {
+            throw new IllegalArgumentException("A game needs " + MIN_PLAYERS + " to " + MAX_PLAYERS + " players, not " + numPlayers);
+        }
+        this.random = random;
+        this.transportationDeck = new TransportationDeck(random);
+        this.graph = RouteGraph.NEW_YORK;
+        this.moveGenerator = MoveGenerator.NEW_YORK;
+        this.ownership = new RouteOwnership(graph, numPlayers);
+        this.destinationTracker = new DestinationTracker(numPlayers, graph.locationCount());
+        this.players = new PlayerState[numPlayers];
+        for (int i = 0; i < numPlayers; i++)
+        {
+            players[i] = new PlayerState(STARTING_TAXIS);
+        }
+        if (deal)
+        {
+            setUpDecks();
+            hash = computeHash();
+            transportationDeck.clearLog();
+        }
+    }
+
+    //---------------------------- Setup -------------------------------\\
+    private void setUpDecks()
+    {
+        for (int ticket = 0; ticket < TicketDefinitions.TICKET_COUNT; ticket++)
+        {
+            destinationDeck.add(ticket);
+        }
+        random.shuffle(destinationDeck);
+
+        //Deals the starting hands, players keep both of their starting tickets
+        for (PlayerState player : players)
+        {
+            for (int i = 0; i < STARTING_TRANSPORTATION_CARDS; i++)
+            {
+                player.hand.add(drawCard(), 1);
+            }
+            for (int i = 0; i < STARTING_DESTINATION_CARDS; i++)
+            {
+                player.tickets.add(destinationDeck.remove(destinationDeck.size() - 1));
+            }
+        }
+
+        for (int slot = 0; slot < FACE_UP_SLOTS; slot++)
+        {
+            faceUp[slot] = drawCard();
+        }
+        checkFaceUpTaxis();
+    }
+
+    //------------------------- Legal moves ----------------------------\\
+
+    /**
+     * Writes every move the current player may make into the buffer
+     * @param buffer array of at least Move.MAX_LEGAL_MOVES entries
+     * @return the number of moves written
+     */
+    public int legalMoves(int[] buffer)
+    {
+        int count = 0;
+        switch (phase)
+        {
+            case PHASE_START ->
+            {
+                if (canDrawFromDeck())
+                {
+                    buffer[count++] = Move.drawDeck();
+                }
+                for (int slot = 0; slot < FACE_UP_SLOTS; slot++)
+                {
+                    if (faceUp[slot] != NONE)
+                    {
+                        buffer[count++] = Move.drawFaceUp(slot);
+                    }
+                }
+                count = moveGenerator.addClaimMoves(players[currentPlayer].hand, claimableRoutes(), buffer, count);
+                if (!destinationDeck.isEmpty())
+                {
+                    buffer[count++] = Move.drawTickets();
+                }
+            }
+            case PHASE_SECOND_DRAW ->
+            {
+                if (canDrawFromDeck())
+                {
+                    buffer[count++] = Move.drawDeck();
+                }
+                //A face up taxi can only be taken as the first card of a turn
+                for (int slot = 0; slot < FACE_UP_SLOTS; slot++)
+                {
+                    if (faceUp[slot] != NONE && faceUp[slot] != CardColor.TAXI_INDEX)
+                    {
+                        buffer[count++] = Move.drawFaceUp(slot);
+                    }
+                }
+            }
+            case PHASE_CHOOSE_TICKETS ->
+            {
+                //Any selection of at least the minimum of the drawn tickets may be kept
+                int minimum = Math.min(MIN_TICKETS_KEPT, pendingTicketCount);
+                for (int mask = 1; mask < (1 << pendingTicketCount); mask++)
+                {
+                    if (Integer.bitCount(mask) >= minimum)
+                    {
+                        buffer[count++] = Move.keepTickets(mask);
+                    }
+                }
+            }
+            default ->
+            {
+                //No moves once the game is over
+            }
+        }
+        return count;
+    }
+
+    //Returns the legal moves in a new array, for callers that don't need to avoid allocation
+    public int[] legalMoves()
+    {
+        int[] buffer = new int[Move.MAX_LEGAL_MOVES];
+        int count = legalMoves(buffer);
+        int[] moves = new int[count];
+        System.arraycopy(buffer, 0, moves, 0, count);
+        return moves;
+    }
+
+    //Free routes the current player has the taxis (pieces) for and isn't blocked from by a twin
+    private long claimableRoutes()
+    {
+        PlayerState player = players[currentPlayer];
+        return ownership.claimableMask(currentPlayer) & moveGenerator.routesUpToLength(player.taxis);
+    }
+
+    /**
+     * Routes the current player can claim right now, one bit per route
+     * Empty outside the start of a turn, since claiming a route is a whole turn.
+     */
+    public long getClaimableRoutes()
+    {
+        if (phase != PHASE_START)
+        {
+            return 0;
+        }
+        return claimableRoutes() & moveGenerator.affordableMask(players[currentPlayer].hand);
+    }
+
+    //Checks whether the move is one of the current legal moves
+    public boolean isLegal(int move)
+    {
+        int count = legalMoves(moveBuffer);
+        for (int i = 0; i < count; i++)
+        {
+            if (moveBuffer[i] == move)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //------------------------- Applying moves ----------------------------\\
+
+    /**
+     * Applies a move for the current player and advances the turn when the move ends it
+     * Outside a search the move is final: its undo frame and the deck's log are dropped right
+     * away. Applied on top of moves made by a search, it can still be unmade like them.
+     * @param move a move from legalMoves
+     * @throws IllegalArgumentException if the move isn't legal in the current state
+     */
+    public void applyMove(int move)
+    {
+        if (!isLegal(move))
+        {
+            throw new IllegalArgumentException("Illegal move: " + Move.toString(move));
+        }
+        make(move);
+        if (undoDepth == 1)
+        {
+            undoDepth = 0;
+            transportationDeck.clearLog();
+        }
+    }
+
+    /**
+     * Applies a move in place like applyMove, saving what unmake needs to take it back
+     * The move isn't checked, so searches that took it from legalMoves don't pay for that twice.
+     * @param move a move from legalMoves, anything else leaves the game in an undefined state
+     */
+    public void make(int move)
+    {
+        pushFrame(move);
+        PlayerState player = players[currentPlayer];
+        switch (Move.type(move))
+        {
+            case Move.DRAW_DECK ->
+            {
+                lastDrawnCard = drawCard();
+                changeHand(lastDrawnCard, 1);
+                afterCardDrawn(false);
+            }
+            case Move.DRAW_FACE_UP ->
+            {
+                int slot = Move.argument(move);
+                lastDrawnCard = faceUp[slot];
+                changeHand(lastDrawnCard, 1);
+                setFaceUp(slot, drawCard());
+                checkFaceUpTaxis();
+                afterCardDrawn(lastDrawnCard == CardColor.TAXI_INDEX);
+            }
+            case Move.CLAIM_ROUTE -> claimRoute(player, Move.argument(move), Move.color(move));
+            case Move.DRAW_TICKETS ->
+            {
+                pendingTicketCount = 0;
+                while (pendingTicketCount < DESTINATION_CARDS_PER_DRAW && !destinationDeck.isEmpty())
+                {
+                    pendingTickets[pendingTicketCount++] = destinationDeck.remove(destinationDeck.size() - 1);
+                }
+                hash ^= pendingTicketsHash();
+                setPhase(PHASE_CHOOSE_TICKETS);
+            }
+            case Move.KEEP_TICKETS ->
+            {
+                int keepMask = Move.argument(move);
+                for (int i = 0; i < pendingTicketCount; i++)
+                {
+                    if ((keepMask & (1 << i)) != 0)
+                    {
+                        player.tickets.add(pendingTickets[i]);
+                        hash ^= Zobrist.heldTicket(currentPlayer, pendingTickets[i]);
+                    }
+                    else
+                    {
+                        //Returned tickets go to the bottom of the deck
+                        destinationDeck.add(0, pendingTickets[i]);
+                    }
+                }
+                hash ^= pendingTicketsHash();
+                pendingTicketCount = 0;
+                endTurn();
+            }
+            default -> throw new IllegalArgumentException("Unknown move type: " + Move.type(move));
+        }
+    }
+
+    //Saves the values the move may overwrite
+    private void pushFrame(int move)
+    {
+        if ((undoDepth + 1) * FRAME_SIZE > undoStack.length)
+        {
+            undoStack = Arrays.copyOf(undoStack, undoStack.length * 2);
+        }
+        int frame = undoDepth++ * FRAME_SIZE;
+        undoStack[frame + FRAME_MOVE] = move;
+        undoStack[frame + FRAME_PLAYER] = currentPlayer;
+        undoStack[frame + FRAME_PHASE] = phase;
+        undoStack[frame + FRAME_TURN] = turnNumber;
+        undoStack[frame + FRAME_FINAL_TURNS] = finalTurnsLeft;
+        undoStack[frame + FRAME_LAST_DRAWN] = lastDrawnCard;
+        undoStack[frame + FRAME_PENDING_COUNT] = pendingTicketCount;
+        System.arraycopy(pendingTickets, 0, undoStack, frame + FRAME_PENDING_TICKETS, DESTINATION_CARDS_PER_DRAW);
+        System.arraycopy(faceUp, 0, undoStack, frame + FRAME_FACE_UP, FACE_UP_SLOTS);
+        for (int p = 0; p < players.length; p++)
+        {
+            undoStack[frame + FRAME_SCORES + p] = players[p].score;
+        }
+        undoStack[frame + FRAME_DECK_MARK] = transportationDeck.mark();
+        undoStack[frame + FRAME_TRACKER_MARK] = destinationTracker.mark();
+        undoStack[frame + FRAME_HASH] = (int) (hash >>> 32);
+        undoStack[frame + FRAME_HASH + 1] = (int) hash;
+        long state = random.getState();
+        undoStack[frame + FRAME_RANDOM] = (int) (state >>> 32);
+        undoStack[frame + FRAME_RANDOM + 1] = (int) state;
+    }
+
+    /**
+     * Takes back the last move made, leaving the game exactly as it was before it
+     * @param move the move passed to the matching make
+     * @throws IllegalStateException if it isn't the last move made
+     */
+    public void unmake(int move)
+    {
+        if (undoDepth == 0 || undoStack[(undoDepth - 1) * FRAME_SIZE + FRAME_MOVE] != move)
+        {
+            throw new IllegalStateException(Move.toString(move) + " is not the last move made");
+        }
+        int frame = --undoDepth * FRAME_SIZE;
+        int mover = undoStack[frame + FRAME_PLAYER];
+        PlayerState player = players[mover];
+        //Undoes what only the move knows, before the saved values below overwrite the results
+        switch (Move.type(move))
+        {
+            case Move.DRAW_DECK -> player.hand.remove(lastDrawnCard, 1);
+            case Move.DRAW_FACE_UP -> player.hand.remove(undoStack[frame + FRAME_FACE_UP + Move.argument(move)], 1);
+            case Move.CLAIM_ROUTE ->
+            {
+                int route = Move.argument(move);
+                player.hand.add(Move.color(move), undoStack[frame + FRAME_COLOR_CARDS]);
+                player.hand.add(CardColor.TAXI_INDEX, undoStack[frame + FRAME_TAXI_CARDS]);
+                ownership.release(mover, route);
+                player.taxis += graph.length(route);
+            }
+            case Move.DRAW_TICKETS ->
+            {
+                //The first ticket drawn came off the end of the deck, so it goes back last
+                for (int i = pendingTicketCount - 1; i >= 0; i--)
+                {
+                    destinationDeck.add(pendingTickets[i]);
+                }
+            }
+            case Move.KEEP_TICKETS ->
+            {
+                int kept = Integer.bitCount(Move.argument(move));
+                for (int i = 0; i < kept; i++)
+                {
+                    player.tickets.remove(player.tickets.size() - 1);
+                }
+                for (int i = kept; i < undoStack[frame + FRAME_PENDING_COUNT]; i++)
+                {
+                    destinationDeck.remove(0);
+                }
+            }
+            default -> throw new IllegalStateException("Unknown move type: " + Move.type(move));
+        }
+
+        currentPlayer = mover;
+        phase = undoStack[frame + FRAME_PHASE];
+        turnNumber = undoStack[frame + FRAME_TURN];
+        finalTurnsLeft = undoStack[frame + FRAME_FINAL_TURNS];
+        lastDrawnCard = undoStack[frame + FRAME_LAST_DRAWN];
+        pendingTicketCount = undoStack[frame + FRAME_PENDING_COUNT];
+        System.arraycopy(undoStack, frame + FRAME_PENDING_TICKETS, pendingTickets, 0, DESTINATION_CARDS_PER_DRAW);
+        System.arraycopy(undoStack, frame + FRAME_FACE_UP, faceUp, 0, FACE_UP_SLOTS);
+        for (int p = 0; p < players.length; p++)
+        {
+            players[p].score = undoStack[frame + FRAME_SCORES + p];
+        }
+        transportationDeck.rollback(undoStack[frame + FRAME_DECK_MARK]);
+        destinationTracker.rollback(undoStack[frame + FRAME_TRACKER_MARK]);
+        hash = (long) undoStack[frame + FRAME_HASH] << 32 | (undoStack[frame + FRAME_HASH + 1] & 0xFFFFFFFFL);
+        random.setState((long) undoStack[frame + FRAME_RANDOM] << 32 | (undoStack[frame + FRAME_RANDOM + 1] & 0xFFFFFFFFL));
+    }
+
+    //Unmakes moves until only depth of them are left made
+    public void unmakeTo(int depth)
+    {
+        while (undoDepth > depth)
+        {
+            unmake(undoStack[(undoDepth - 1) * FRAME_SIZE + FRAME_MOVE]);
+        }
+    }
+
+    //Number of moves made that unmake can still take back
+    public int getUndoDepth()
+    {
+        return undoDepth;
+    }
+
+    //Moves to the second draw, or ends the turn if this was the last card the player may take
+    private void afterCardDrawn(boolean tookFaceUpTaxi)
+    {
+        if (phase == PHASE_START && !tookFaceUpTaxi)
+        {
+            setPhase(PHASE_SECOND_DRAW);
+            //Ends the turn early if there is nothing left to draw
+            if (legalMoves(moveBuffer) == 0)
+            {
+                endTurn();
+            }
+        }
+        else
+        {
+            endTurn();
+        }
+    }
+
+    private void claimRoute(PlayerState player, int route, int color)
+    {
+        int length = graph.length(route);
+        //Pays with the chosen color first, then makes up the rest with taxis
+        int colorCards = Math.min(player.hand.count(color), length);
+        int taxiCards = length - colorCards;
+        int frame = (undoDepth - 1) * FRAME_SIZE;
+        undoStack[frame + FRAME_COLOR_CARDS] = colorCards;
+        undoStack[frame + FRAME_TAXI_CARDS] = taxiCards;
+        changeHand(color, -colorCards);
+        changeHand(CardColor.TAXI_INDEX, -taxiCards);
+        transportationDeck.discard(color, colorCards);
+        transportationDeck.discard(CardColor.TAXI_INDEX, taxiCards);
+
+        ownership.claim(currentPlayer, route);
+        hash ^= Zobrist.routeOwner(currentPlayer, route);
+        destinationTracker.connect(currentPlayer, graph.cityA(route), graph.cityB(route));
+        player.taxis -= length;
+        player.score += graph.points(route);
+        endTurn();
+    }
+
+    //Passes the turn to the next player and handles the last round
+    private void endTurn()
+    {
+        hash ^= Zobrist.finalTurns(finalTurnsLeft);
+        if (finalTurnsLeft > 0)
+        {
+            finalTurnsLeft--;
+        }
+        else if (finalTurnsLeft == NONE && players[currentPlayer].taxis <= END_GAME_TAXIS)
+        {
+            //Every player, including this one, gets one last turn
+            finalTurnsLeft = players.length;
+        }
+        hash ^= Zobrist.finalTurns(finalTurnsLeft);
+
+        if (finalTurnsLeft == 0)
+        {
+            finishGame();
+            return;
+        }
+
+        hash ^= Zobrist.currentPlayer(currentPlayer);
+        currentPlayer = (currentPlayer + 1) % players.length;
+        hash ^= Zobrist.currentPlayer(currentPlayer);
+        setPhase(PHASE_START);
+        turnNumber++;
+
+        //Ends the game if the new player can't do anything at all
+        if (legalMoves(moveBuffer) == 0)
+        {
+            finishGame();
+        }
+    }
+
+    private void setPhase(int newPhase)
+    {
+        hash ^= Zobrist.phase(phase) ^ Zobrist.phase(newPhase);
+        phase = newPhase;
+    }
+
+    //Adds or subtracts the value of every destination ticket
+    private void finishGame()
+    {
+        setPhase(PHASE_GAME_OVER);
+        for (int p = 0; p < players.length; p++)
+        {
+            players[p].score += getTicketScore(p);
+        }
+    }
+
+    //------------------------- Card handling ----------------------------\\
+
+    //Adds cards of a color to the current player's hand, or removes them for a negative amount
+    private void changeHand(int color, int amount)
+    {
+        Hand hand = players[currentPlayer].hand;
+        int count = hand.count(color);
+        hash ^= Zobrist.handCount(currentPlayer, color, count) ^ Zobrist.handCount(currentPlayer, color, count + amount);
+        if (amount >= 0)
+        {
+            hand.add(color, amount);
+        }
+        else
+        {
+            hand.remove(color, -amount);
+        }
+    }
+
+    private void setFaceUp(int slot, int card)
+    {
+        hash ^= Zobrist.faceUp(slot, faceUp[slot]) ^ Zobrist.faceUp(slot, card);
+        faceUp[slot] = card;
+    }
+
+    private boolean canDrawFromDeck()
+    {
+        return transportationDeck.canDraw();
+    }
+
+    //Draws the top card, shuffling the discards back in when the draw pile runs out
+    private int drawCard()
+    {
+        return transportationDeck.draw();
+    }
+
+    //Replaces the face up cards while three or more of them are taxis
+    private void checkFaceUpTaxis()
+    {
+        //Gives up after a few tries so a deck of mostly taxis can't loop forever
+        for (int attempt = 0; attempt < FACE_UP_SLOTS && countFaceUpTaxis() >= MAX_FACE_UP_TAXIS; attempt++)
+        {
+            for (int slot = 0; slot < FACE_UP_SLOTS; slot++)
+            {
+                if (faceUp[slot] != NONE)
+                {
+                    transportationDeck.discard(faceUp[slot]);
+                }
+                setFaceUp(slot, NONE);
+            }
+            for (int slot = 0; slot < FACE_UP_SLOTS; slot++)
+            {
+                setFaceUp(slot, drawCard());
+            }
+        }
+    }
+
+    private int countFaceUpTaxis()
+    {
+        int taxis = 0;
+        for (int card : faceUp)
+        {
+            if (card == CardColor.TAXI_INDEX)
+            {
+                taxis++;
+            }
+        }
+        return taxis;
+    }
+
+    //------------------------- Ticket checks ----------------------------\\
+
+    //Checks whether the player's routes connect the two locations of the ticket
+    public boolean isTicketComplete(int player, int ticket)
+    {
+        return destinationTracker.isComplete(player, ticket);
+    }
+
+    //Number of the player's tickets that are currently completed
+    public int getCompletedTicketCount(int player)
+    {
+        int completed = 0;
+        for (int ticket : players[player].tickets)
+        {
+            if (destinationTracker.isComplete(player, ticket))
+            {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    //Points the player's tickets would be worth if the game ended now
+    public int getTicketScore(int player)
+    {
+        int total = 0;
+        for (int ticket : players[player].tickets)
+        {
+            int points = TicketDefinitions.TICKETS.get(ticket).points();
+            total += destinationTracker.isComplete(player, ticket) ? points : -points;
+        }
+        return total;
+    }
+
+    //------------------------- Copying ----------------------------\\
+
+    //Returns an independent copy of the game, including the generator, for looking ahead
+    public GameEngine copy()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshot.MAX_SIZE);
+        writeState(buffer);
+        return readState(buffer.flip());
+    }
+
+    /**
+     * Reorders what the current player can't see, the draw pile and the destination tickets, and
+     * reseeds the generator, so a copy used for looking ahead doesn't know the real order
+     */
+    void shuffleHiddenCards(GameRandom source)
+    {
+        random.setState(source.nextLong());
+        transportationDeck.shuffle();
+        random.shuffle(destinationDeck);
+        //Unmaking would bring back the real order, so the moves before the shuffle are final
+        undoDepth = 0;
+        transportationDeck.clearLog();
+    }
+
+    //------------------------- Hashing ----------------------------\\
+
+    /**
+     * Zobrist hash of the route owners, hand counts, held tickets, face up cards, current player,
+     * phase, turns left in the last round and drawn tickets waiting to be kept. Updated as moves
+     * are applied, so reading it costs nothing. Hidden cards aren't part of it.
+     */
+    public long getHash()
+    {
+        return hash;
+    }
+
+    //Hashes the state from scratch, the incremental hash always equals this
+    final long computeHash()
+    {
+        long result = Zobrist.currentPlayer(currentPlayer) ^ Zobrist.phase(phase) ^ Zobrist.finalTurns(finalTurnsLeft);
+        for (int slot = 0; slot < FACE_UP_SLOTS; slot++)
+        {
+            result ^= Zobrist.faceUp(slot, faceUp[slot]);
+        }
+        for (int p = 0; p < players.length; p++)
+        {
+            for (int color = 0; color < CardColor.COUNT; color++)
+            {
+                result ^= Zobrist.handCount(p, color, players[p].hand.count(color));
+            }
+            for (int ticket : players[p].tickets)
+            {
+                result ^= Zobrist.heldTicket(p, ticket);
+            }
+            for (int route = 0; route < graph.routeCount(); route++)
+            {
+                if (ownership.isOwnedBy(p, route))
+                {
+                    result ^= Zobrist.routeOwner(p, route);
+                }
+            }
+        }
+        return result ^ pendingTicketsHash();
+    }
+
+    //Keys of the drawn tickets, 0 when none are waiting
+    private long pendingTicketsHash()
+    {
+        long result = 0;
+        for (int i = 0; i < pendingTicketCount; i++)
+        {
+            result ^= Zobrist.pendingTicket(i, pendingTickets[i]);
+        }
+        return result;
+    }
+
+    //------------------------- Saving state ----------------------------\\
+
+    /**
+     * Writes everything needed to continue the game, see GameSnapshot for the layout
+     * Derived state (who can reach which location) is left out and rebuilt by readState.
+     */
+    void writeState(ByteBuffer buffer)
+    {
+        OptionalLong seed = random.getSeed();
+        buffer.put((byte) (seed.isPresent() ? 1 : 0));
+        buffer.putLong(seed.orElse(0));
+        buffer.putLong(random.getState());
+        buffer.putLong(random.getGamma());
+        Varint.putUnsigned(buffer, players.length);
+        Varint.putUnsigned(buffer, currentPlayer);
+        Varint.putUnsigned(buffer, phase);
+        Varint.putUnsigned(buffer, turnNumber);
+        Varint.putSigned(buffer, finalTurnsLeft);
+        Varint.putSigned(buffer, lastDrawnCard);
+        for (int card : faceUp)
+        {
+            Varint.putSigned(buffer, card);
+        }
+
+        int piles = transportationDeck.size() + transportationDeck.getDiscardCount();
+        Varint.putUnsigned(buffer, transportationDeck.size());
+        Varint.putUnsigned(buffer, transportationDeck.getDiscardCount());
+        for (int position = 0; position < piles; position++)
+        {
+            Varint.putUnsigned(buffer, transportationDeck.cardAt(position));
+        }
+        writeTickets(buffer, destinationDeck);
+        Varint.putUnsigned(buffer, pendingTicketCount);
+        for (int i = 0; i < pendingTicketCount; i++)
+        {
+            Varint.putUnsigned(buffer, pendingTickets[i]);
+        }
+
+        for (int p = 0; p < players.length; p++)
+        {
+            PlayerState player = players[p];
+            Varint.putUnsigned(buffer, player.taxis);
+            Varint.putSigned(buffer, player.score);
+            for (int color = 0; color < CardColor.COUNT; color++)
+            {
+                Varint.putUnsigned(buffer, player.hand.count(color));
+            }
+            writeTickets(buffer, player.tickets);
+            buffer.putLong(ownership.ownedMask(p));
+        }
+    }
+
+    private static void writeTickets(ByteBuffer buffer, List<Integer> tickets)
+    {
+        Varint.putUnsigned(buffer, tickets.size());
+        for (int ticket : tickets)
+        {
+            Varint.putUnsigned(buffer, ticket);
+        }
+    }
+
+    /**
+     * Recreates a game written by writeState, without replaying any of its moves
+     * @throws IllegalArgumentException if the data doesn't describe a valid game on this board
+     */
+    static GameEngine readState(ByteBuffer buffer)
+    {
+        boolean hasSeed = checkRange(buffer.get(), 0, 1, "seed flag") == 1;
+        long seed = buffer.getLong();
+        long state = buffer.getLong();
+        GameRandom random = GameRandom.restore(hasSeed ? OptionalLong.of(seed) : OptionalLong.empty(), state, buffer.getLong());
+        GameEngine engine = new GameEngine(checkRange(Varint.getUnsigned(buffer), MIN_PLAYERS, MAX_PLAYERS, "players"), random, false);
+        int numPlayers = engine.players.length;
+        engine.currentPlayer = checkRange(Varint.getUnsigned(buffer), 0, numPlayers - 1, "current player");
+        engine.phase = checkRange(Varint.getUnsigned(buffer), PHASE_START, PHASE_GAME_OVER, "phase");
+        engine.turnNumber = Varint.getUnsigned(buffer);
+        engine.finalTurnsLeft = checkRange(Varint.getSigned(buffer), NONE, numPlayers, "final turns");
+        engine.lastDrawnCard = checkRange(Varint.getSigned(buffer), NONE, CardColor.COUNT - 1, "last drawn card");
+        for (int slot = 0; slot < FACE_UP_SLOTS; slot++)
+        {
+            engine.faceUp[slot] = checkRange(Varint.getSigned(buffer), NONE, CardColor.COUNT - 1, "face up card");
+        }
+
+        int drawCount = Varint.getUnsigned(buffer);
+        int discardCount = Varint.getUnsigned(buffer);
+        int capacity = engine.transportationDeck.capacity();
+        checkRange(drawCount, 0, capacity, "draw pile");
+        checkRange(discardCount, 0, capacity - drawCount, "discard pile");
+        int[] piles = new int[drawCount + discardCount];
+        for (int i = 0; i < piles.length; i++)
+        {
+            piles[i] = checkRange(Varint.getUnsigned(buffer), 0, CardColor.COUNT - 1, "card");
+        }
+        engine.transportationDeck.restore(piles, drawCount, discardCount);
+        readTickets(buffer, engine.destinationDeck);
+        engine.pendingTicketCount = checkRange(Varint.getUnsigned(buffer), 0, DESTINATION_CARDS_PER_DRAW, "drawn tickets");
+        for (int i = 0; i < engine.pendingTicketCount; i++)
+        {
+            engine.pendingTickets[i] = checkRange(Varint.getUnsigned(buffer), 0, TicketDefinitions.TICKET_COUNT - 1, "ticket");
+        }
+
+        for (int p = 0; p < numPlayers; p++)
+        {
+            PlayerState player = engine.players[p];
+            player.taxis = checkRange(Varint.getUnsigned(buffer), 0, STARTING_TAXIS, "taxis");
+            player.score = Varint.getSigned(buffer);
+            for (int color = 0; color < CardColor.COUNT; color++)
+            {
+                player.hand.set(color, checkRange(Varint.getUnsigned(buffer), 0, capacity, "hand"));
+            }
+            readTickets(buffer, player.tickets);
+            long owned = buffer.getLong();
+            for (int route = 0; route < engine.graph.routeCount(); route++)
+            {
+                if ((owned & (1L << route)) != 0)
+                {
+                    if (!engine.ownership.isFree(route))
+                    {
+                        throw new IllegalArgumentException("Route " + route + " is owned by two players");
+                    }
+                    engine.ownership.claim(p, route);
+                    engine.destinationTracker.connect(p, engine.graph.cityA(route), engine.graph.cityB(route));
+                }
+            }
+            if ((owned & ~engine.ownership.ownedMask(p)) != 0)
+            {
+                throw new IllegalArgumentException("Player " + p + " owns routes that aren't on the board");
+            }
+        }
+        //Creating the deck shuffled it, so the generator is put back where the save left it
+        random.setState(state);
+        engine.hash = engine.computeHash();
+        return engine;
+    }
+
+    private static void readTickets(ByteBuffer buffer, List<Integer> tickets)
+    {
+        int count = checkRange(Varint.getUnsigned(buffer), 0, TicketDefinitions.TICKET_COUNT, "ticket count");
+        for (int i = 0; i < count; i++)
+        {
+            tickets.add(checkRange(Varint.getUnsigned(buffer), 0, TicketDefinitions.TICKET_COUNT - 1, "ticket"));
+        }
+    }
+
+    private static int checkRange(int value, int min, int max, String what)
+    {
+        if (value < min || value > max)
+        {
+            throw new IllegalArgumentException("Saved " + what + " " + value + " is not between " + min + " and " + max);
+        }
+        return value;
+    }
+
+    //------------------------- Get methods ----------------------------\\
+    public RouteGraph getGraph()
+    {
+        return graph;
+    }
+
+    public int getNumPlayers()
+    {
+        return players.length;
+    }
+
+    public int getCurrentPlayer()
+    {
+        return currentPlayer;
+    }
+
+    public PlayerState getPlayer(int player)
+    {
+        return players[player];
+    }
+
+    public int getPhase()
+    {
+        return phase;
+    }
+
+    public boolean isGameOver()
+    {
+        return phase == PHASE_GAME_OVER;
+    }
+
+    public int getTurnNumber()
+    {
+        return turnNumber;
+    }
+
+    //Color index of the card taken by the last draw move
+    public int getLastDrawnCard()
+    {
+        return lastDrawnCard;
+    }
+
+    public int getFaceUpCard(int slot)
+    {
+        return faceUp[slot];
+    }
+
+    public int getRouteOwner(int route)
+    {
+        return ownership.owner(route);
+    }
+
+    public GameRandom getRandom()
+    {
+        return random;
+    }
+
+    public RouteOwnership getOwnership()
+    {
+        return ownership;
+    }
+
+    public int getDrawPileSize()
+    {
+        return transportationDeck.size();
+    }
+
+    public int getDiscardPileSize()
+    {
+        return transportationDeck.getDiscardCount();
+    }
+
+    public int getDestinationDeckSize()
+    {
+        return destinationDeck.size();
+    }
+
+    public int getPendingTicketCount()
+    {
+        return pendingTicketCount;
+    }
+
+    public int getPendingTicket(int index)
+    {
+        return pendingTickets[index];
+    }
+
+    /**
+     * Finds the claim move for a route that spends the player's most plentiful matching color
+     * @return the claim move, or NONE if the current player can't claim the route
+     */
+    public int bestClaimMove(int route)
+    {
+        if (phase != PHASE_START)
+        {
+            return NONE;
+        }
+        Hand hand = players[currentPlayer].hand;
+        int count = moveGenerator.addClaimMoves(hand, claimableRoutes() & (1L << route), moveBuffer, 0);
+        int best = NONE;
+        int bestCards = -1;
+        for (int i = 0; i < count; i++)
+        {
+            int color = Move.color(moveBuffer[i]);
+            //Prefers spending colored cards over taxis
+            int cards = color == CardColor.TAXI_INDEX ? 0 : hand.count(color);
+            if (cards > bestCards)
+            {
+                bestCards = cards;
+                best = moveBuffer[i];
+            }
+        }
+        return best;
+    }
+}
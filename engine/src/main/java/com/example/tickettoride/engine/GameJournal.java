@@ -0,0 +1,224 @@
+package com.example.tickettoride.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * GameJournal class
+ * Write-ahead log of a game in progress, so a game survives the JVM dying. The directory holds a
+ * checkpoint (a GameSnapshot) and a journal of every move applied since that checkpoint. Moves
+ * are appended as they are made and forced to disk in batches; every CHECKPOINT_INTERVAL moves a
+ * new checkpoint is written and the journal is cut back to its header.
+ * Recovering loads the checkpoint and replays the journal's moves through the engine.
+ * The journal follows the game on its own copy of the engine, so it can be written from another
+ * thread than the one playing; it is not thread safe itself, use it from one thread at a time.
+ *
+ * Journal layout: int magic "TTRJ", byte format version, int CRC32 of the checkpoint file the
+ * moves follow, then one int per move. A journal whose checksum doesn't match the checkpoint is
+ * left over from before the last checkpoint; its moves are already in the checkpoint.
+ */
+public final class GameJournal implements Closeable
+{
+    //System property to keep the journal somewhere other than ~/.tickettoride/journal
+    public static final String JOURNAL_DIR_PROPERTY = "tickettoride.journalDir";
+    //Moves appended before the journal is forced to disk
+    public static final int SYNC_BATCH = 8;
+    //Moves between checkpoints, so recovery never replays more than this many
+    public static final int CHECKPOINT_INTERVAL = 64;
+
+    private static final String CHECKPOINT_FILE = "checkpoint" + GameSnapshot.FILE_EXTENSION;
+    private static final String JOURNAL_FILE = "journal.log";
+    //"TTRJ", marks a journal file
+    private static final int MAGIC = 0x5454524A;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + 1 + Integer.BYTES;
+
+    private final Path directory;
+    //The game as journaled, checkpoints are taken from it
+    private final GameEngine engine;
+    private final String[] playerNames;
+    private final int[] playerColors;
+    private final FileChannel channel;
+    //One move at a time is written from here, so appending doesn't allocate
+    private final ByteBuffer record = ByteBuffer.allocate(Integer.BYTES);
+    private int unsyncedMoves;
+    private int movesSinceCheckpoint;
+
+    private GameJournal(Path directory, GameEngine engine, String[] playerNames, int[] playerColors) throws IOException
+    {
+        this.directory = directory;
+        this.engine = engine;
+        this.playerNames = playerNames.clone();
+        this.playerColors = playerColors.clone();
+        this.channel = FileChannel.open(directory.resolve(JOURNAL_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+    }
+
+    /**
+     * Starts journaling the game, replacing any journal already in the directory
+     * Takes a checkpoint of the engine as it is now, so call it before the first move is journaled.
+     * The journal keeps its own copy of the engine; the game can go on without it.
+     */
+    public static GameJournal start(Path directory, GameEngine engine, String[] playerNames, int[] playerColors) throws IOException
+    {
+        Files.createDirectories(directory);
+        GameJournal journal = new GameJournal(directory, engine.copy(), playerNames, playerColors);
+        try
+        {
+            journal.checkpoint();
+        }
+        catch (IOException | RuntimeException e)
+        {
+            journal.channel.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    /**
+     * Records the next move of the game
+     * @throws IllegalArgumentException if the move isn't legal after the moves journaled so far
+     */
+    public void append(int move) throws IOException
+    {
+        engine.applyMove(move);
+        record.clear();
+        record.putInt(move).flip();
+        while (record.hasRemaining())
+        {
+            channel.write(record);
+        }
+        movesSinceCheckpoint++;
+        if (movesSinceCheckpoint >= CHECKPOINT_INTERVAL)
+        {
+            checkpoint();
+        }
+        else if (++unsyncedMoves >= SYNC_BATCH)
+        {
+            sync();
+        }
+    }
+
+    //Forces the moves appended so far to disk
+    public void sync() throws IOException
+    {
+        if (unsyncedMoves > 0)
+        {
+            channel.force(false);
+            unsyncedMoves = 0;
+        }
+    }
+
+    /**
+     * Saves the game as journaled so far as the new checkpoint and empties the journal
+     * The checkpoint is replaced in one step and forced to disk, file and directory, before the
+     * journal is cut, so a crash in between leaves a journal that recover recognises as already
+     * checkpointed, and the journal is never empty while the checkpoint could still be lost.
+     */
+    public void checkpoint() throws IOException
+    {
+        Path checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        new GameSnapshot(engine, playerNames, playerColors).save(checkpointFile);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put((byte) FORMAT_VERSION).putInt(fileChecksum(checkpointFile)).flip();
+        channel.truncate(0);
+        channel.position(0);
+        while (header.hasRemaining())
+        {
+            channel.write(header);
+        }
+        channel.force(false);
+        unsyncedMoves = 0;
+        movesSinceCheckpoint = 0;
+    }
+
+    //Syncs and closes the journal, leaving it on disk so the game can still be recovered
+    @Override
+    public void close() throws IOException
+    {
+        try
+        {
+            sync();
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+
+    //Closes the journal and removes its files, for games that finished normally
+    public void delete() throws IOException
+    {
+        channel.close();
+        Files.deleteIfExists(directory.resolve(JOURNAL_FILE));
+        Files.deleteIfExists(directory.resolve(CHECKPOINT_FILE));
+    }
+
+    /**
+     * Restores the game journaled in the directory: its last checkpoint plus every journaled move
+     * A move cut short by the crash, or one the engine refuses, ends the replay.
+     * @return the recovered game, or null if the directory holds no game
+     * @throws IllegalArgumentException if the checkpoint is damaged
+     */
+    public static GameSnapshot recover(Path directory) throws IOException
+    {
+        Path checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.isRegularFile(checkpointFile))
+        {
+            return null;
+        }
+        GameSnapshot snapshot = GameSnapshot.load(checkpointFile);
+        Path journalFile = directory.resolve(JOURNAL_FILE);
+        if (!Files.isRegularFile(journalFile))
+        {
+            return snapshot;
+        }
+
+        ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(journalFile));
+        if (journal.remaining() < HEADER_SIZE
+                || journal.getInt() != MAGIC
+                || journal.get() != FORMAT_VERSION
+                || journal.getInt() != fileChecksum(checkpointFile))
+        {
+            //Written before the checkpoint, or never finished, so there is nothing to replay
+            return snapshot;
+        }
+        GameEngine engine = snapshot.getEngine();
+        while (journal.remaining() >= Integer.BYTES && !engine.isGameOver())
+        {
+            int move = journal.getInt();
+            if (!engine.isLegal(move))
+            {
+                System.out.println("Journal replay stopped at an illegal move: " + Move.toString(move));
+                break;
+            }
+            engine.applyMove(move);
+        }
+        return snapshot;
+    }
+
+    //Default directory for the journal of the game being played
+    public static Path defaultDirectory()
+    {
+        String directory = System.getProperty(JOURNAL_DIR_PROPERTY);
+        if (directory != null)
+        {
+            return Path.of(directory);
+        }
+        return Path.of(System.getProperty("user.home"), ".tickettoride", "journal");
+    }
+
+    private static int fileChecksum(Path file) throws IOException
+    {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file));
+        return (int) crc.getValue();
+    }
+}
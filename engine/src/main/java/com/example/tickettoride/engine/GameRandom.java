@@ -0,0 +1,156 @@
+package com.example.tickettoride.engine;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * GameRandom class
+ * The single source of randomness for a game. Every deck and shuffle draws from the same seeded
+ * generator, so replaying a game with the same seed and moves deals exactly the same cards.
+ * Not thread safe: code running games in parallel should give each worker its own generator
+ * from split(), which produces an independent stream without any shared state.
+ * The generator is SplitMix64, the algorithm behind java.util.SplittableRandom, written out here
+ * so its two longs of state can be saved and restored with a game.
+ */
+public class GameRandom
+{
+    //Increment of the generator created from a seed
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    //Current state, advanced by gamma for every number drawn
+    private long state;
+    //Odd increment of this stream, split() gives each new stream its own
+    private final long gamma;
+    //Seed the generator was created from, empty for generators made by split()
+    private final OptionalLong seed;
+
+    public GameRandom(long seed)
+    {
+        this(seed, GOLDEN_GAMMA, OptionalLong.of(seed));
+    }
+
+    private GameRandom(long state, long gamma, OptionalLong seed)
+    {
+        this.state = state;
+        this.gamma = gamma;
+        this.seed = seed;
+    }
+
+    //Recreates a generator from the values of getSeed, getState and getGamma
+    public static GameRandom restore(OptionalLong seed, long state, long gamma)
+    {
+        if ((gamma & 1L) == 0)
+        {
+            throw new IllegalArgumentException("The gamma of a generator is always odd, not " + gamma);
+        }
+        return new GameRandom(state, gamma, seed);
+    }
+
+    //Creates a generator with a seed taken from the clock, for games that don't need replaying
+    public static GameRandom unseeded()
+    {
+        return new GameRandom(System.nanoTime());
+    }
+
+    //Returns a generator at the same point of the same stream, drawing from it leaves this one alone
+    public GameRandom copy()
+    {
+        return new GameRandom(state, gamma, seed);
+    }
+
+    //Returns a new generator with its own stream, advancing this one
+    public GameRandom split()
+    {
+        return new GameRandom(nextLong(), mixGamma(nextState()), OptionalLong.empty());
+    }
+
+    //Returns a random int from 0 (inclusive) to bound (exclusive)
+    public int nextInt(int bound)
+    {
+        if (bound <= 0)
+        {
+            throw new IllegalArgumentException("The bound must be positive, not " + bound);
+        }
+        int mask = bound - 1;
+        int r = mix32(nextState());
+        if ((bound & mask) == 0)
+        {
+            return r & mask;
+        }
+        //Rejects the values that would make the low results more likely
+        for (int u = r >>> 1; u + mask - (r = u % bound) < 0; u = mix32(nextState()) >>> 1)
+        {
+        }
+        return r;
+    }
+
+    public long nextLong()
+    {
+        return mix64(nextState());
+    }
+
+    public double nextDouble()
+    {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    //Shuffles the list in place (Fisher-Yates)
+    public <T> void shuffle(List<T> list)
+    {
+        for (int i = list.size() - 1; i > 0; i--)
+        {
+            int j = nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    //Moves the stream to a saved position, see getState
+    void setState(long state)
+    {
+        this.state = state;
+    }
+
+    private long nextState()
+    {
+        return state += gamma;
+    }
+
+    private static long mix64(long z)
+    {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z)
+    {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    //Picks the increment of a new stream, odd and with enough bit changes to mix well
+    private static long mixGamma(long z)
+    {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+
+    //Seed the generator was created from, empty if it was split from another one
+    public OptionalLong getSeed()
+    {
+        return seed;
+    }
+
+    public long getState()
+    {
+        return state;
+    }
+
+    public long getGamma()
+    {
+        return gamma;
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.tickettoride.engine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GameRecording class
+ * A game stored as its starting state and the moves played from it, for replays. Every
+ * keyframe interval moves the full state is kept as a keyframe, so the state after any move is
+ * found by restoring the keyframe before it and applying at most interval - 1 moves.
+ * Only the start and the moves are written to replay files; keyframes are rebuilt on loading.
+ *
+ * Replay file layout: int magic "TTRR", byte format version, the starting GameSnapshot,
+ * varint move count, then each move as a varint.
+ */
+public final class GameRecording
+{
+    //Extension of replay files
+    public static final String FILE_EXTENSION = ".ttrr";
+    //System property to keep replays somewhere other than ~/.tickettoride/replays
+    public static final String REPLAY_DIR_PROPERTY = "tickettoride.replayDir";
+    //Moves between keyframes
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 16;
+
+    //"TTRR", marks a replay file
+    private static final int MAGIC = 0x54545252;
+    private static final int FORMAT_VERSION = 1;
+
+    private final String[] playerNames;
+    private final int[] playerColors;
+    private final int keyframeInterval;
+    //State after keyframeInterval * i moves, keyframe 0 being the start of the recording
+    private final List<byte[]> keyframes = new ArrayList<>();
+    //The game after every recorded move, keyframes are taken from it
+    private final GameEngine last;
+    private int[] moves = new int[256];
+    private int moveCount;
+
+    //Starts recording the game from its current state
+    public GameRecording(GameEngine engine, String[] playerNames, int[] playerColors)
+    {
+        this(engine, playerNames, playerColors, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    public GameRecording(GameEngine engine, String[] playerNames, int[] playerColors, int keyframeInterval)
+    {
+        if (keyframeInterval < 1)
+        {
+            throw new IllegalArgumentException("Keyframes need at least one move between them, not " + keyframeInterval);
+        }
+        if (playerNames.length != engine.getNumPlayers() || playerColors.length != engine.getNumPlayers())
+        {
+            throw new IllegalArgumentException("Need a name and a color for each of the " + engine.getNumPlayers() + " players");
+        }
+        this.playerNames = playerNames.clone();
+        this.playerColors = playerColors.clone();
+        this.keyframeInterval = keyframeInterval;
+        byte[] start = encode(engine);
+        keyframes.add(start);
+        //The recording keeps its own copy so the game can go on without it
+        this.last = decode(start);
+    }
+
+    /**
+     * Adds the next move of the game
+     * @throws IllegalArgumentException if the move isn't legal after the moves recorded so far
+     */
+    public void add(int move)
+    {
+        last.applyMove(move);
+        if (moveCount == moves.length)
+        {
+            moves = Arrays.copyOf(moves, moveCount * 2);
+        }
+        moves[moveCount++] = move;
+        if (moveCount % keyframeInterval == 0)
+        {
+            keyframes.add(encode(last));
+        }
+    }
+
+    /**
+     * Recreates the game as it was after the given number of moves
+     * @param move from 0 for the start of the recording to getMoveCount for the end
+     */
+    public GameEngine stateAt(int move)
+    {
+        if (move < 0 || move > moveCount)
+        {
+            throw new IndexOutOfBoundsException("Move " + move + " of a recording with " + moveCount + " moves");
+        }
+        int keyframe = move / keyframeInterval;
+        GameEngine engine = decode(keyframes.get(keyframe));
+        for (int i = keyframe * keyframeInterval; i < move; i++)
+        {
+            engine.applyMove(moves[i]);
+        }
+        return engine;
+    }
+
+    public int getMoveCount()
+    {
+        return moveCount;
+    }
+
+    public int getMove(int index)
+    {
+        if (index < 0 || index >= moveCount)
+        {
+            throw new IndexOutOfBoundsException("Move " + index + " of a recording with " + moveCount + " moves");
+        }
+        return moves[index];
+    }
+
+    public int getKeyframeInterval()
+    {
+        return keyframeInterval;
+    }
+
+    //Is the game over at the end of the recording
+    public boolean isFinished()
+    {
+        return last.isGameOver();
+    }
+
+    public String[] getPlayerNames()
+    {
+        return playerNames.clone();
+    }
+
+    public int[] getPlayerColors()
+    {
+        return playerColors.clone();
+    }
+
+    //---------------------------- Replay files ----------------------------\\
+
+    public void save(Path file) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + 1 + GameSnapshot.MAX_SIZE
+                + Varint.MAX_INT_BYTES * (moveCount + 1));
+        buffer.putInt(MAGIC).put((byte) FORMAT_VERSION);
+        new GameSnapshot(decode(keyframes.get(0)), playerNames, playerColors).write(buffer);
+        Varint.putUnsigned(buffer, moveCount);
+        for (int i = 0; i < moveCount; i++)
+        {
+            Varint.putUnsigned(buffer, moves[i]);
+        }
+        buffer.flip();
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+        {
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Loads a replay file, rebuilding its keyframes by playing it through once
+     * @throws IllegalArgumentException if the file isn't a valid replay
+     */
+    public static GameRecording load(Path file) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        try
+        {
+            if (buffer.getInt() != MAGIC)
+            {
+                throw new IllegalArgumentException("Not a replay file");
+            }
+            int version = buffer.get();
+            if (version != FORMAT_VERSION)
+            {
+                throw new IllegalArgumentException("Replay format " + version + " is not supported, expected " + FORMAT_VERSION);
+            }
+            GameSnapshot start = GameSnapshot.read(buffer);
+            GameRecording recording = new GameRecording(start.getEngine(), start.getPlayerNames(), start.getPlayerColors());
+            int count = Varint.getUnsigned(buffer);
+            for (int i = 0; i < count; i++)
+            {
+                recording.add(Varint.getUnsigned(buffer));
+            }
+            return recording;
+        }
+        catch (BufferUnderflowException e)
+        {
+            throw new IllegalArgumentException("Replay file is cut short", e);
+        }
+    }
+
+    //Default directory finished games are saved to
+    public static Path defaultDirectory()
+    {
+        String directory = System.getProperty(REPLAY_DIR_PROPERTY);
+        if (directory != null)
+        {
+            return Path.of(directory);
+        }
+        return Path.of(System.getProperty("user.home"), ".tickettoride", "replays");
+    }
+
+    private static byte[] encode(GameEngine engine)
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshot.MAX_SIZE);
+        engine.writeState(buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static GameEngine decode(byte[] keyframe)
+    {
+        return GameEngine.readState(ByteBuffer.wrap(keyframe));
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.tickettoride.engine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * GameSnapshot class
+ * A saved game: the engine's full state plus the names and colors the players chose. Snapshots
+ * are written in a compact binary form, with almost every number as a one byte varint, so a four
+ * player game takes a few hundred bytes and is read back without replaying any turns.
+ *
+ * Layout:
+ *   int magic "TTRS", byte format version
+ *   board: name, route count, location count, ticket count
+ *   engine state, see GameEngine.writeState
+ *   per player: name, color as 0xAARRGGBB
+ *   int CRC32 of everything before it
+ */
+public final class GameSnapshot
+{
+    //Extension of saved game files
+    public static final String FILE_EXTENSION = ".ttr";
+    //Largest snapshot we write, well above a full four player game
+    public static final int MAX_SIZE = 4096;
+
+    //"TTRS", marks a saved game
+    private static final int MAGIC = 0x54545253;
+    //Bumped whenever the layout changes, older versions are refused rather than misread
+    private static final int FORMAT_VERSION = 2;
+
+    private final GameEngine engine;
+    private final String[] playerNames;
+    private final int[] playerColors;
+
+    /**
+     * @param playerNames name of each player, in seat order
+     * @param playerColors color of each player as 0xAARRGGBB, in seat order
+     */
+    public GameSnapshot(GameEngine engine, String[] playerNames, int[] playerColors)
+    {
+        if (playerNames.length != engine.getNumPlayers() || playerColors.length != engine.getNumPlayers())
+        {
+            throw new IllegalArgumentException("Need a name and a color for each of the " + engine.getNumPlayers() + " players");
+        }
+        this.engine = engine;
+        this.playerNames = playerNames.clone();
+        this.playerColors = playerColors.clone();
+    }
+
+    //Writes the snapshot at the buffer's position
+    public void write(ByteBuffer buffer)
+    {
+        int start = buffer.position();
+        buffer.putInt(MAGIC);
+        buffer.put((byte) FORMAT_VERSION);
+        BoardDefinition board = BoardDefinition.NEW_YORK;
+        Varint.putString(buffer, board.getName());
+        Varint.putUnsigned(buffer, board.getRoutes().size());
+        Varint.putUnsigned(buffer, board.getLocationNames().length);
+        Varint.putUnsigned(buffer, board.getTickets().size());
+
+        engine.writeState(buffer);
+        for (int p = 0; p < playerNames.length; p++)
+        {
+            Varint.putString(buffer, playerNames[p]);
+            buffer.putInt(playerColors[p]);
+        }
+        buffer.putInt(checksum(buffer, start, buffer.position()));
+    }
+
+    //Returns the snapshot in a new buffer, ready to be read or written to a channel
+    public ByteBuffer toBuffer()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_SIZE);
+        write(buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * Reads a snapshot from the buffer's position
+     * @throws IllegalArgumentException if the data is damaged, from another version or another board
+     */
+    public static GameSnapshot read(ByteBuffer buffer)
+    {
+        int start = buffer.position();
+        try
+        {
+            if (buffer.getInt() != MAGIC)
+            {
+                throw new IllegalArgumentException("Not a saved game");
+            }
+            int version = buffer.get();
+            if (version != FORMAT_VERSION)
+            {
+                throw new IllegalArgumentException("Saved game format " + version + " is not supported, expected " + FORMAT_VERSION);
+            }
+            BoardDefinition board = BoardDefinition.NEW_YORK;
+            String boardName = Varint.getString(buffer);
+            if (!boardName.equals(board.getName())
+                    || Varint.getUnsigned(buffer) != board.getRoutes().size()
+                    || Varint.getUnsigned(buffer) != board.getLocationNames().length
+                    || Varint.getUnsigned(buffer) != board.getTickets().size())
+            {
+                throw new IllegalArgumentException("Saved game is for a different board: " + boardName);
+            }
+
+            GameEngine engine = GameEngine.readState(buffer);
+            String[] names = new String[engine.getNumPlayers()];
+            int[] colors = new int[engine.getNumPlayers()];
+            for (int p = 0; p < names.length; p++)
+            {
+                names[p] = Varint.getString(buffer);
+                colors[p] = buffer.getInt();
+            }
+            int expected = checksum(buffer, start, buffer.position());
+            if (buffer.getInt() != expected)
+            {
+                throw new IllegalArgumentException("Saved game is damaged, its checksum doesn't match");
+            }
+            return new GameSnapshot(engine, names, colors);
+        }
+        catch (BufferUnderflowException e)
+        {
+            throw new IllegalArgumentException("Saved game is cut short", e);
+        }
+    }
+
+    /**
+     * Saves to the file, replacing it in one step so a failed save never leaves half a game behind
+     * The data is forced to disk before the rename and the rename after it, so once save returns
+     * the new file survives a power loss; GameJournal relies on that before it cuts its log.
+     */
+    public void save(Path file) throws IOException
+    {
+        ByteBuffer buffer = toBuffer();
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try
+        {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE))
+            {
+                while (buffer.hasRemaining())
+                {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try
+            {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(directory);
+        }
+        finally
+        {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    //Forces a directory's entries to disk, so a file just renamed into it stays renamed after a crash
+    static void forceDirectory(Path directory) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ))
+        {
+            channel.force(true);
+        }
+        catch (AccessDeniedException e)
+        {
+            //Windows can't open a directory as a channel, and makes renames durable by itself
+        }
+    }
+
+    /**
+     * Loads a game saved by save
+     * @throws IllegalArgumentException if the file isn't a valid saved game
+     */
+    public static GameSnapshot load(Path file) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            if (channel.size() > MAX_SIZE)
+            {
+                throw new IllegalArgumentException("Saved game is " + channel.size() + " bytes, at most " + MAX_SIZE + " expected");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0)
+            {
+            }
+            return read(buffer.flip());
+        }
+    }
+
+    //CRC32 of the bytes between the two positions, leaving the buffer's position alone
+    private static int checksum(ByteBuffer buffer, int from, int to)
+    {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(from, to - from));
+        return (int) crc.getValue();
+    }
+
+    public GameEngine getEngine()
+    {
+        return engine;
+    }
+
+    public String[] getPlayerNames()
+    {
+        return playerNames.clone();
+    }
+
+    public int[] getPlayerColors()
+    {
+        return playerColors.clone();
+    }
+}
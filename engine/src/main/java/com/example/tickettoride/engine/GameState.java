@@ -0,0 +1,44 @@
+package com.example.tickettoride.engine;
+
+/**
+ * GameState interface
+ * Read-only view of a game, for code that shows a game without changing it (the board overlay,
+ * player displays, replays). GameEngine implements it; only the engine can apply moves.
+ */
+public interface GameState
+{
+    RouteGraph getGraph();
+
+    int getNumPlayers();
+
+    int getCurrentPlayer();
+
+    PlayerState getPlayer(int player);
+
+    //One of the GameEngine.PHASE_ constants
+    int getPhase();
+
+    boolean isGameOver();
+
+    int getTurnNumber();
+
+    //Color index of the face up card in the slot, or GameEngine.NONE if the slot is empty
+    int getFaceUpCard(int slot);
+
+    //Player owning the route, or GameEngine.NONE if it is free
+    int getRouteOwner(int route);
+
+    //Best move for the current player to claim the route, or GameEngine.NONE if they can't
+    int bestClaimMove(int route);
+
+    //Routes the current player can claim right now, bit N standing for route N
+    long getClaimableRoutes();
+
+    boolean isTicketComplete(int player, int ticket);
+
+    int getCompletedTicketCount(int player);
+
+    int getDrawPileSize();
+
+    int getDestinationDeckSize();
+}
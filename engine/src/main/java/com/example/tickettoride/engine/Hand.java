@@ -0,0 +1,102 @@
+package com.example.tickettoride.engine;
+
+/**
+ * Hand class
+ * A player's transportation cards stored as one int count per CardColor.
+ * None of the operations allocate, so bots can call them millions of times without creating garbage.
+ */
+public class Hand
+{
+    //Number of cards of each color, indexed by CardColor ordinal
+    private final int[] counts = new int[CardColor.COUNT];
+
+    //Creates an empty hand
+    public Hand()
+    {
+    }
+
+    //Adds cards of a color to the hand
+    public void add(int color, int amount)
+    {
+        counts[color] += amount;
+    }
+
+    public void add(CardColor color, int amount)
+    {
+        counts[color.ordinal()] += amount;
+    }
+
+    //Removes cards of a color from the hand
+    public void remove(int color, int amount)
+    {
+        if (counts[color] < amount)
+        {
+            throw new IllegalStateException("Cannot remove " + amount + " " + CardColor.of(color) + " cards from a hand holding " + counts[color]);
+        }
+        counts[color] -= amount;
+    }
+
+    //Sets the number of cards of a color
+    public void set(int color, int amount)
+    {
+        counts[color] = amount;
+    }
+
+    //Copies every count from another hand
+    public void setAll(Hand other)
+    {
+        System.arraycopy(other.counts, 0, counts, 0, CardColor.COUNT);
+    }
+
+    public void clear()
+    {
+        for (int color = 0; color < CardColor.COUNT; color++)
+        {
+            counts[color] = 0;
+        }
+    }
+
+    //Number of cards of a color in the hand
+    public int count(int color)
+    {
+        return counts[color];
+    }
+
+    public int count(CardColor color)
+    {
+        return counts[color.ordinal()];
+    }
+
+    //Total number of cards in the hand
+    public int total()
+    {
+        int total = 0;
+        for (int count : counts)
+        {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Checks whether the hand holds enough cards to claim a route, counting taxis as wild
+     * and letting grey routes be paid with any single color
+     */
+    public boolean canAfford(RouteGraph graph, int route)
+    {
+        int length = graph.length(route);
+        int taxis = counts[CardColor.TAXI_INDEX];
+        int color = graph.color(route);
+        if (color != RouteDefinitions.GREY)
+        {
+            return counts[color] + taxis >= length;
+        }
+        //Grey routes only need the largest single color plus taxis
+        int most = 0;
+        for (int c = 0; c < CardColor.TAXI_INDEX; c++)
+        {
+            most = Math.max(most, counts[c]);
+        }
+        return most + taxis >= length;
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.tickettoride.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * MctsBot class
+ * Computer player using Monte-Carlo Tree Search. Each iteration walks down from the current
+ * game choosing moves by UCT (the best mean reward plus a bonus for rarely tried moves), adds
+ * one new move to the tree, plays the rest of the game out with MonteCarloBot's quick random
+ * moves and adds the result to every move on the way down.
+ * The tree lives in a TranspositionTable keyed by the engine's Zobrist hash, so the same
+ * position reached by different move orders shares its statistics, and the table outlives a
+ * single decision so the next turn starts from what this one learned.
+ * One search task per worker of the pool runs iterations until the time budget is spent; they
+ * share nothing but the table, whose lock striping keeps them from waiting on each other.
+ * Every iteration reshuffles the cards the player can't see, as MonteCarloBot's playouts do, then
+ * makes its moves in place and unmakes them all afterwards, so iterations don't allocate.
+ */
+public class MctsBot implements Bot
+{
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 1000;
+    //Weight of the exploration bonus, rewards are between 0 and 1
+    public static final double EXPLORATION = 0.7;
+    //Moves an iteration goes down the tree at most before playing out
+    public static final int MAX_TREE_DEPTH = 64;
+    //Score margin that counts as a sure win, smaller margins give rewards between 0.5 and 1
+    private static final double MARGIN_SCALE = 50;
+
+    private final ForkJoinPool pool;
+    //Search tasks run side by side, one per worker of the pool unless asked otherwise
+    private final int searchTasks;
+    private final long timeBudgetNanos;
+    private final GameRandom random;
+    //Upper bound on iterations per decision, so tests and tournaments can play at a fixed strength
+    private final int maxIterations;
+    private final TranspositionTable table;
+
+    public MctsBot(ForkJoinPool pool, long timeBudgetMillis, GameRandom random)
+    {
+        this(pool, pool.getParallelism(), timeBudgetMillis, random, Integer.MAX_VALUE, new TranspositionTable());
+    }
+
+    /**
+     * @param searchTasks tasks sharing the table, a single task searches the same way every run
+     */
+    public MctsBot(ForkJoinPool pool, int searchTasks, long timeBudgetMillis, GameRandom random, int maxIterations, TranspositionTable table)
+    {
+        if (searchTasks <= 0 || timeBudgetMillis <= 0 || maxIterations <= 0)
+        {
+            throw new IllegalArgumentException("The bot needs some tasks, time and iterations to think");
+        }
+        this.pool = pool;
+        this.searchTasks = searchTasks;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.random = random;
+        this.maxIterations = maxIterations;
+        this.table = table;
+    }
+
+    @Override
+    public int chooseMove(GameEngine game, BooleanSupplier cancelled)
+    {
+        int[] candidates = game.legalMoves();
+        if (candidates.length <= 1)
+        {
+            return candidates.length == 0 ? GameEngine.NONE : candidates[0];
+        }
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        GameEngine root = game.copy();
+        AtomicInteger iterations = new AtomicInteger();
+        SearchTask[] tasks = new SearchTask[searchTasks];
+        for (int i = 0; i < tasks.length; i++)
+        {
+            tasks[i] = new SearchTask(root, random.split(), deadline, cancelled, iterations);
+        }
+        pool.invoke(new RecursiveAction()
+        {
+            @Override
+            protected void compute()
+            {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+
+        //The most visited move is the one the search trusts most
+        int best = candidates[0];
+        int bestVisits = -1;
+        for (int move : candidates)
+        {
+            int visits = table.visits(TranspositionTable.key(root.getHash(), move));
+            if (visits > bestVisits)
+            {
+                bestVisits = visits;
+                best = move;
+            }
+        }
+        return best;
+    }
+
+    public TranspositionTable getTable()
+    {
+        return table;
+    }
+
+    //Reward of a finished game for a player, 1 for a clear win down to 0 for a clear loss
+    static double reward(GameEngine game, int player)
+    {
+        double reward = 0.5 + MonteCarloBot.margin(game, player) / (2 * MARGIN_SCALE);
+        return Math.max(0, Math.min(1, reward));
+    }
+
+    //Runs search iterations on one worker until the deadline or until the search is cancelled
+    //Fork/join tasks are Serializable, but these only ever live inside one search
+    @SuppressWarnings("serial")
+    private final class SearchTask extends RecursiveAction
+    {
+        private final GameEngine root;
+        private final GameRandom random;
+        private final long deadline;
+        private final BooleanSupplier cancelled;
+        private final AtomicInteger iterations;
+        private final int[] buffer = new int[Move.MAX_LEGAL_MOVES];
+        //The moves taken down the tree in the current iteration, and who took them
+        private final long[] pathKeys = new long[MAX_TREE_DEPTH];
+        private final int[] pathPlayers = new int[MAX_TREE_DEPTH];
+        private final double[] rewards = new double[GameEngine.MAX_PLAYERS];
+
+        SearchTask(GameEngine root, GameRandom random, long deadline, BooleanSupplier cancelled, AtomicInteger iterations)
+        {
+            this.root = root;
+            this.random = random;
+            this.deadline = deadline;
+            this.cancelled = cancelled;
+            this.iterations = iterations;
+        }
+
+        @Override
+        protected void compute()
+        {
+            //The root is shared, so the task searches its own copy, unmaking back to the root every iteration
+            GameEngine game = root.copy();
+            //Always finishes one iteration, so the search has something to go on even on a tiny budget
+            do
+            {
+                iterate(game);
+            }
+            while (System.nanoTime() < deadline && !cancelled.getAsBoolean() && iterations.incrementAndGet() < maxIterations);
+        }
+
+        private void iterate(GameEngine game)
+        {
+            game.shuffleHiddenCards(random);
+
+            int depth = 0;
+            boolean expanded = false;
+            while (!expanded && depth < MAX_TREE_DEPTH && !game.isGameOver())
+            {
+                int count = game.legalMoves(buffer);
+                if (count == 0)
+                {
+                    break;
+                }
+                long state = game.getHash();
+                int move = select(state, count);
+                long key = TranspositionTable.key(state, move);
+                expanded = table.visits(key) == 0;
+                table.addVisit(TranspositionTable.key(state, GameEngine.NONE));
+                table.addVisit(key);
+                pathKeys[depth] = key;
+                pathPlayers[depth] = game.getCurrentPlayer();
+                depth++;
+                game.make(move);
+            }
+
+            MonteCarloBot.playToEnd(game, random, buffer);
+            for (int p = 0; p < game.getNumPlayers(); p++)
+            {
+                rewards[p] = reward(game, p);
+            }
+            for (int i = 0; i < depth; i++)
+            {
+                table.addReward(pathKeys[i], rewards[pathPlayers[i]]);
+            }
+            game.unmakeTo(0);
+        }
+
+        //Picks the move with the best UCT value, trying every move once before any move twice
+        private int select(long state, int count)
+        {
+            double logVisits = Math.log(Math.max(1, table.visits(TranspositionTable.key(state, GameEngine.NONE))));
+            int best = buffer[0];
+            double bestValue = Double.NEGATIVE_INFINITY;
+            int untried = 0;
+            for (int i = 0; i < count; i++)
+            {
+                long key = TranspositionTable.key(state, buffer[i]);
+                int visits = table.visits(key);
+                if (visits == 0)
+                {
+                    //Picks uniformly among the untried moves, one pass without a second buffer
+                    untried++;
+                    if (random.nextInt(untried) == 0)
+                    {
+                        best = buffer[i];
+                    }
+                    continue;
+                }
+                if (untried > 0)
+                {
+                    continue;
+                }
+                double value = table.totalReward(key) / visits + EXPLORATION * Math.sqrt(logVisits / visits);
+                if (value > bestValue)
+                {
+                    bestValue = value;
+                    best = buffer[i];
+                }
+            }
+            return best;
+        }
+    }
+}
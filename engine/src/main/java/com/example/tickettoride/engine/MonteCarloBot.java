@@ -0,0 +1,225 @@
+package com.example.tickettoride.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * MonteCarloBot class
+ * Computer player that rates each legal move by playing the game out to the end many times from
+ * it with quick random moves, then picks the move whose playouts ended best for it. The playouts
+ * of every candidate run as fork/join tasks, in rounds, until the time budget is spent.
+ * Each playout reshuffles the draw pile and destination tickets first, so the bot can't use the
+ * real order of the cards it hasn't seen.
+ * chooseMove blocks until the budget is used up or it is cancelled, so the UI calls it from a
+ * background thread.
+ */
+public class MonteCarloBot implements Bot
+{
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 1000;
+    //Playouts of one candidate in one task, enough to outweigh the cost of forking it
+    public static final int PLAYOUTS_PER_TASK = 8;
+    //Stops a playout that somehow never reaches the end of the game
+    public static final int MAX_PLAYOUT_MOVES = 2000;
+
+    //Chance a playout claims a route when it can, it otherwise draws cards almost every turn
+    private static final double CLAIM_CHANCE = 0.7;
+    //Chance a playout draws destination tickets when it can, they mostly cost points at random
+    private static final double TICKET_CHANCE = 0.05;
+
+    private final ForkJoinPool pool;
+    private final long timeBudgetNanos;
+    private final GameRandom random;
+    //Upper bound on playouts per decision, so tests and tournaments can play at a fixed strength
+    private final int maxPlayouts;
+
+    public MonteCarloBot(ForkJoinPool pool, long timeBudgetMillis, GameRandom random)
+    {
+        this(pool, timeBudgetMillis, random, Integer.MAX_VALUE);
+    }
+
+    public MonteCarloBot(ForkJoinPool pool, long timeBudgetMillis, GameRandom random, int maxPlayouts)
+    {
+        if (timeBudgetMillis <= 0 || maxPlayouts <= 0)
+        {
+            throw new IllegalArgumentException("The bot needs some time and some playouts to think");
+        }
+        this.pool = pool;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.random = random;
+        this.maxPlayouts = maxPlayouts;
+    }
+
+    @Override
+    public int chooseMove(GameEngine game, BooleanSupplier cancelled)
+    {
+        int[] candidates = game.legalMoves();
+        if (candidates.length <= 1)
+        {
+            return candidates.length == 0 ? GameEngine.NONE : candidates[0];
+        }
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        GameEngine root = game.copy();
+        int player = game.getCurrentPlayer();
+        long[] totalMargin = new long[candidates.length];
+        int[] playouts = new int[candidates.length];
+        int totalPlayouts = 0;
+
+        //Every round gives every candidate the same number of playouts
+        do
+        {
+            PlayoutTask[] tasks = new PlayoutTask[candidates.length];
+            for (int i = 0; i < candidates.length; i++)
+            {
+                tasks[i] = new PlayoutTask(root, candidates[i], player, random.split(), deadline, cancelled);
+            }
+            pool.invoke(new RecursiveAction()
+            {
+                @Override
+                protected void compute()
+                {
+                    ForkJoinTask.invokeAll(tasks);
+                }
+            });
+            for (int i = 0; i < candidates.length; i++)
+            {
+                totalMargin[i] += tasks[i].totalMargin;
+                playouts[i] += tasks[i].playouts;
+                totalPlayouts += tasks[i].playouts;
+            }
+        }
+        while (System.nanoTime() < deadline && totalPlayouts < maxPlayouts && !cancelled.getAsBoolean());
+
+        int best = 0;
+        double bestMean = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < candidates.length; i++)
+        {
+            double mean = playouts[i] == 0 ? Double.NEGATIVE_INFINITY : (double) totalMargin[i] / playouts[i];
+            if (mean > bestMean)
+            {
+                bestMean = mean;
+                best = i;
+            }
+        }
+        return candidates[best];
+    }
+
+    /**
+     * Plays the game out to the end with quick random moves
+     * @return the player's final score minus the best score of the other players
+     */
+    static int playout(GameEngine game, int player, GameRandom random, int[] buffer)
+    {
+        playToEnd(game, random, buffer);
+        return margin(game, player);
+    }
+
+    //Makes quick random moves until the game is over, they can be unmade afterwards
+    static void playToEnd(GameEngine game, GameRandom random, int[] buffer)
+    {
+        for (int moves = 0; moves < MAX_PLAYOUT_MOVES && !game.isGameOver(); moves++)
+        {
+            int count = game.legalMoves(buffer);
+            if (count == 0)
+            {
+                break;
+            }
+            game.make(pickPlayoutMove(buffer, count, random));
+        }
+    }
+
+    //The player's score minus the best score of the other players
+    static int margin(GameEngine game, int player)
+    {
+        int best = Integer.MIN_VALUE;
+        for (int p = 0; p < game.getNumPlayers(); p++)
+        {
+            if (p != player)
+            {
+                best = Math.max(best, game.getPlayer(p).getScore());
+            }
+        }
+        return game.getPlayer(player).getScore() - best;
+    }
+
+    //Picks a random move, leaning towards claiming routes and away from drawing tickets
+    static int pickPlayoutMove(int[] moves, int count, GameRandom random)
+    {
+        int claims = 0;
+        int tickets = -1;
+        for (int i = 0; i < count; i++)
+        {
+            int type = Move.type(moves[i]);
+            if (type == Move.CLAIM_ROUTE)
+            {
+                claims++;
+            }
+            else if (type == Move.DRAW_TICKETS)
+            {
+                tickets = i;
+            }
+        }
+        if (claims > 0 && random.nextDouble() < CLAIM_CHANCE)
+        {
+            int pick = random.nextInt(claims);
+            for (int i = 0; i < count; i++)
+            {
+                if (Move.type(moves[i]) == Move.CLAIM_ROUTE && pick-- == 0)
+                {
+                    return moves[i];
+                }
+            }
+        }
+        if (tickets >= 0 && count > 1 && random.nextDouble() >= TICKET_CHANCE)
+        {
+            //Skips the ticket draw by picking from the other moves
+            int pick = random.nextInt(count - 1);
+            return moves[pick >= tickets ? pick + 1 : pick];
+        }
+        return moves[random.nextInt(count)];
+    }
+
+    //Runs a batch of playouts of one candidate move
+    //Fork/join tasks are Serializable, but these only ever live inside one search
+    @SuppressWarnings("serial")
+    private static final class PlayoutTask extends RecursiveAction
+    {
+        private final GameEngine root;
+        private final int move;
+        private final int player;
+        private final GameRandom random;
+        private final long deadline;
+        private final BooleanSupplier cancelled;
+        private long totalMargin;
+        private int playouts;
+
+        PlayoutTask(GameEngine root, int move, int player, GameRandom random, long deadline, BooleanSupplier cancelled)
+        {
+            this.root = root;
+            this.move = move;
+            this.player = player;
+            this.random = random;
+            this.deadline = deadline;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected void compute()
+        {
+            int[] buffer = new int[Move.MAX_LEGAL_MOVES];
+            //The root is shared, so the task plays out on its own copy and unmakes back to the start
+            GameEngine game = root.copy();
+            //Always finishes one playout, so every candidate gets rated even on a tiny budget
+            do
+            {
+                game.shuffleHiddenCards(random);
+                game.make(move);
+                totalMargin += playout(game, player, random, buffer);
+                game.unmakeTo(0);
+                playouts++;
+            }
+            while (playouts < PLAYOUTS_PER_TASK && System.nanoTime() < deadline && !cancelled.getAsBoolean());
+        }
+    }
+}
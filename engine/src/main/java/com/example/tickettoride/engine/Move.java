@@ -0,0 +1,84 @@
+package com.example.tickettoride.engine;
+
+/**
+ * Move class
+ * Moves are packed into a single int so the engine can generate and apply them without
+ * creating objects. Layout (low bits first):
+ * - bits 0-3:   move type
+ * - bits 4-11:  argument (route id, face up slot, or ticket keep mask)
+ * - bits 12-15: card color used to pay for a route
+ */
+public final class Move
+{
+    //Move types
+    public static final int DRAW_DECK = 1;
+    public static final int DRAW_FACE_UP = 2;
+    public static final int CLAIM_ROUTE = 3;
+    public static final int DRAW_TICKETS = 4;
+    public static final int KEEP_TICKETS = 5;
+
+    //Large enough for every claim of every route plus the draw moves
+    public static final int MAX_LEGAL_MOVES = 512;
+
+    private Move()
+    {
+    }
+
+    //------------------------- Encoding -----------------------------\\
+    public static int drawDeck()
+    {
+        return DRAW_DECK;
+    }
+
+    public static int drawFaceUp(int slot)
+    {
+        return DRAW_FACE_UP | (slot << 4);
+    }
+
+    public static int claimRoute(int routeId, int color)
+    {
+        return CLAIM_ROUTE | (routeId << 4) | (color << 12);
+    }
+
+    public static int drawTickets()
+    {
+        return DRAW_TICKETS;
+    }
+
+    //keepMask has one bit per pending ticket, bit 0 being the first ticket drawn
+    public static int keepTickets(int keepMask)
+    {
+        return KEEP_TICKETS | (keepMask << 4);
+    }
+
+    //------------------------- Decoding -----------------------------\\
+    public static int type(int move)
+    {
+        return move & 0xF;
+    }
+
+    public static int argument(int move)
+    {
+        return (move >>> 4) & 0xFF;
+    }
+
+    public static int color(int move)
+    {
+        return (move >>> 12) & 0xF;
+    }
+
+    //Readable form of a move for logging
+    public static String toString(int move)
+    {
+        return switch (type(move))
+        {
+            case DRAW_DECK -> "Draw from deck";
+            case DRAW_FACE_UP -> "Draw face up card " + argument(move);
+            case CLAIM_ROUTE -> "Claim " + RouteGraph.NEW_YORK.routeName(argument(move))
+                    + " with " + CardColor.of(color(move));
+            case DRAW_TICKETS -> "Draw destination tickets";
+            case KEEP_TICKETS -> "Keep tickets " + Integer.toBinaryString(argument(move));
+            default -> "Unknown move " + move;
+        };
+    }
+}
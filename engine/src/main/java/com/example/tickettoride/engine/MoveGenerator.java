@@ -0,0 +1,112 @@
+package com.example.tickettoride.engine;
+
+import static com.example.tickettoride.engine.RouteDefinitions.GREY;
+
+/**
+ * MoveGenerator class
+ * Finds the route claims a hand can pay for using tables built once per board. For every route
+ * color (the card colors plus GREY) and every length n the table holds the mask of routes of that
+ * color no longer than n, so the routes a hand can afford are one lookup per color: the routes of
+ * color c up to count(c) + taxis long, and the grey routes up to the largest single color plus
+ * taxis. Taxi cards are wild on every route, and a grey route is paid with any one color.
+ * Masks are ANDed with RouteOwnership.claimableMask, which already leaves out taken routes and
+ * the twins of the player's own double routes.
+ */
+public final class MoveGenerator
+{
+    //Generator for the New York board
+    public static final MoveGenerator NEW_YORK = new MoveGenerator(RouteGraph.NEW_YORK);
+
+    private final RouteGraph graph;
+    private final int maxLength;
+    //Routes of each route color no longer than n, indexed [color][n] with n up to maxLength
+    private final long[][] routesUpTo;
+    //Routes of any color no longer than n, for the taxis (pieces) a player has left
+    private final long[] anyUpTo;
+
+    public MoveGenerator(RouteGraph graph)
+    {
+        this.graph = graph;
+        int longest = 0;
+        for (int route = 0; route < graph.routeCount(); route++)
+        {
+            longest = Math.max(longest, graph.length(route));
+        }
+        maxLength = longest;
+        routesUpTo = new long[GREY + 1][maxLength + 1];
+        anyUpTo = new long[maxLength + 1];
+        for (int route = 0; route < graph.routeCount(); route++)
+        {
+            //A route counts for its own length and every longer one
+            for (int n = graph.length(route); n <= maxLength; n++)
+            {
+                routesUpTo[graph.color(route)][n] |= 1L << route;
+                anyUpTo[n] |= 1L << route;
+            }
+        }
+    }
+
+    //Routes no longer than the given number of pieces
+    public long routesUpToLength(int length)
+    {
+        return anyUpTo[Math.min(Math.max(length, 0), maxLength)];
+    }
+
+    //Routes the hand holds enough cards for, whoever owns them
+    public long affordableMask(Hand hand)
+    {
+        int taxis = hand.count(CardColor.TAXI_INDEX);
+        long affordable = 0;
+        int most = 0;
+        for (int color = 0; color < CardColor.TAXI_INDEX; color++)
+        {
+            int count = hand.count(color);
+            affordable |= routesUpTo[color][clamp(count + taxis)];
+            most = Math.max(most, count);
+        }
+        //Taxis alone can pay for a colored route too, which the lookups above already include
+        return affordable | routesUpTo[GREY][clamp(most + taxis)];
+    }
+
+    /**
+     * Writes every way the hand can pay for the routes in the mask, in route order
+     * Grey routes get one move per color the hand holds enough of, plus one paid with taxis only.
+     * @param routes routes the player may claim, see RouteOwnership.claimableMask
+     * @return the new number of moves in the buffer
+     */
+    public int addClaimMoves(Hand hand, long routes, int[] buffer, int count)
+    {
+        int taxis = hand.count(CardColor.TAXI_INDEX);
+        long affordable = routes & affordableMask(hand);
+        while (affordable != 0)
+        {
+            int route = Long.numberOfTrailingZeros(affordable);
+            affordable &= affordable - 1;
+            int routeColor = graph.color(route);
+            if (routeColor != GREY)
+            {
+                buffer[count++] = Move.claimRoute(route, routeColor);
+                continue;
+            }
+            int length = graph.length(route);
+            for (int color = 0; color < CardColor.TAXI_INDEX; color++)
+            {
+                int cards = hand.count(color);
+                if (cards > 0 && cards + taxis >= length)
+                {
+                    buffer[count++] = Move.claimRoute(route, color);
+                }
+            }
+            if (taxis >= length)
+            {
+                buffer[count++] = Move.claimRoute(route, CardColor.TAXI_INDEX);
+            }
+        }
+        return count;
+    }
+
+    private int clamp(int length)
+    {
+        return Math.min(length, maxLength);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.tickettoride.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PlayerState class
+ * The engine's view of a single player: card counts, remaining taxis, score and tickets.
+ * Unlike the Player class this holds no JavaFX types, so it can be used by simulations.
+ * Outside the engine it is read-only: the hand is only readable count by count, and the tickets
+ * come back as a copy, so no caller can change the game behind the engine's back (or its hash).
+ */
+public class PlayerState
+{
+    //Transportation cards held by the player
+    final Hand hand = new Hand();
+    //Taxis (game pieces) left to place on routes
+    int taxis;
+    //Points from claimed routes, plus ticket points once the game is over
+    int score;
+    //Ids of the destination tickets the player has kept
+    final List<Integer> tickets = new ArrayList<>();
+
+    PlayerState(int taxis)
+    {
+        this.taxis = taxis;
+    }
+
+    //Returns how many cards of the given color the player holds
+    public int getCardCount(int color)
+    {
+        return hand.count(color);
+    }
+
+    //Returns the total number of transportation cards in the player's hand
+    public int getHandSize()
+    {
+        return hand.total();
+    }
+
+    public int getTaxis()
+    {
+        return taxis;
+    }
+
+    public int getScore()
+    {
+        return score;
+    }
+
+    public List<Integer> getTickets()
+    {
+        return List.copyOf(tickets);
+    }
+}
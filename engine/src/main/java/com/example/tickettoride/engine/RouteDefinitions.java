@@ -0,0 +1,43 @@
+package com.example.tickettoride.engine;
+
+import java.util.List;
+
+/**
+ * RouteDefinitions class
+ * The locations and routes of the New York board, as read from its board file by BoardLoader,
+ * so the engine doesn't need the JavaFX rectangles in HighlightRoutes to know what a route is.
+ * A route's index here is also the index of the rectangle that draws it.
+ */
+public final class RouteDefinitions
+{
+    //Display names of the locations, indexed by location id
+    public static final String[] LOCATION_NAMES = BoardDefinition.NEW_YORK.getLocationNames();
+
+    public static final int LOCATION_COUNT = LOCATION_NAMES.length;
+
+    //Grey routes can be claimed with any single card color
+    public static final int GREY = CardColor.COUNT;
+
+    /**
+     * A single route on the board
+     * @param name   name of the route, e.g. "ChelseaToSoho"
+     * @param cityA  first location id
+     * @param cityB  second location id
+     * @param color  card color needed to claim it, or GREY
+     * @param length number of blocks (cards and taxis) needed to claim it
+     * @param points points scored for claiming it
+     */
+    public record RouteDefinition(String name, int cityA, int cityB, int color, int length, int points)
+    {
+    }
+
+    //--------------------------- Routes -----------------------------\\
+    //Routes of the New York board, in the order of its board file
+    public static final List<RouteDefinition> ROUTES = BoardDefinition.NEW_YORK.getRoutes();
+
+    public static final int ROUTE_COUNT = ROUTES.size();
+
+    private RouteDefinitions()
+    {
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.tickettoride.engine;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RouteGraph class
+ * Compact, array based form of the board. Every route has a dense id (0 to routeCount - 1) and
+ * its endpoints, length, color and points are stored in parallel int arrays, so looking any of
+ * them up is a single array read instead of hashing a Color or String key.
+ * The routes touching each location are stored in compressed sparse row (CSR) form:
+ * the entries for location L are the indexes adjacencyStart(L) to adjacencyEnd(L) - 1 of
+ * adjacentRoute/adjacentLocation.
+ */
+public final class RouteGraph
+{
+    //The New York board, built once from its board file
+    public static final RouteGraph NEW_YORK = BoardDefinition.NEW_YORK.toGraph();
+
+    private final int routeCount;
+    private final int locationCount;
+
+    //Per route data, indexed by route id
+    private final String[] routeNames;
+    private final int[] cityA;
+    private final int[] cityB;
+    private final int[] length;
+    private final int[] color;
+    private final int[] points;
+    //Other half of a double route, or -1
+    private final int[] twin;
+
+    //CSR adjacency, indexed by location id
+    private final int[] adjacencyStart;
+    private final int[] adjacencyRoute;
+    private final int[] adjacencyLocation;
+
+    private final String[] locationNames;
+    //Only used to translate names from the UI and older code, never in the game loop
+    private final Map<String, Integer> routeIdsByName = new HashMap<>();
+
+    public RouteGraph(List<RouteDefinitions.RouteDefinition> routes, String[] locationNames)
+    {
+        this.routeCount = routes.size();
+        this.locationCount = locationNames.length;
+        this.locationNames = locationNames.clone();
+        routeNames = new String[routeCount];
+        cityA = new int[routeCount];
+        cityB = new int[routeCount];
+        length = new int[routeCount];
+        color = new int[routeCount];
+        points = new int[routeCount];
+        twin = new int[routeCount];
+
+        for (int route = 0; route < routeCount; route++)
+        {
+            RouteDefinitions.RouteDefinition definition = routes.get(route);
+            routeNames[route] = definition.name();
+            cityA[route] = definition.cityA();
+            cityB[route] = definition.cityB();
+            length[route] = definition.length();
+            color[route] = definition.color();
+            points[route] = definition.points();
+            routeIdsByName.put(definition.name(), route);
+        }
+
+        //Pairs up double routes, which share both endpoints
+        for (int route = 0; route < routeCount; route++)
+        {
+            twin[route] = -1;
+            for (int other = 0; other < routeCount; other++)
+            {
+                if (other != route && Math.min(cityA[route], cityB[route]) == Math.min(cityA[other], cityB[other])
+                        && Math.max(cityA[route], cityB[route]) == Math.max(cityA[other], cityB[other]))
+                {
+                    twin[route] = other;
+                }
+            }
+        }
+
+        //Counts the routes at each location, then turns the counts into start offsets
+        adjacencyStart = new int[locationCount + 1];
+        for (int route = 0; route < routeCount; route++)
+        {
+            adjacencyStart[cityA[route] + 1]++;
+            adjacencyStart[cityB[route] + 1]++;
+        }
+        for (int location = 0; location < locationCount; location++)
+        {
+            adjacencyStart[location + 1] += adjacencyStart[location];
+        }
+
+        //Fills in both directions of every route
+        adjacencyRoute = new int[routeCount * 2];
+        adjacencyLocation = new int[routeCount * 2];
+        int[] next = adjacencyStart.clone();
+        for (int route = 0; route < routeCount; route++)
+        {
+            int a = next[cityA[route]]++;
+            adjacencyRoute[a] = route;
+            adjacencyLocation[a] = cityB[route];
+            int b = next[cityB[route]]++;
+            adjacencyRoute[b] = route;
+            adjacencyLocation[b] = cityA[route];
+        }
+    }
+
+    //------------------------- Route data ----------------------------\\
+    public int routeCount()
+    {
+        return routeCount;
+    }
+
+    public int cityA(int route)
+    {
+        return cityA[route];
+    }
+
+    public int cityB(int route)
+    {
+        return cityB[route];
+    }
+
+    public int length(int route)
+    {
+        return length[route];
+    }
+
+    //Card color index of the route, or RouteDefinitions.GREY
+    public int color(int route)
+    {
+        return color[route];
+    }
+
+    public int points(int route)
+    {
+        return points[route];
+    }
+
+    public int twin(int route)
+    {
+        return twin[route];
+    }
+
+    public String routeName(int route)
+    {
+        return routeNames[route];
+    }
+
+    //Looks up a route by the name used in HighlightRoutes, returns -1 if there is no such route
+    public int routeId(String name)
+    {
+        return routeIdsByName.getOrDefault(name, -1);
+    }
+
+    //---------------------- Location adjacency -------------------------\\
+    public int locationCount()
+    {
+        return locationCount;
+    }
+
+    public String locationName(int location)
+    {
+        return locationNames[location];
+    }
+
+    //First adjacency index of the location
+    public int adjacencyStart(int location)
+    {
+        return adjacencyStart[location];
+    }
+
+    //One past the last adjacency index of the location
+    public int adjacencyEnd(int location)
+    {
+        return adjacencyStart[location + 1];
+    }
+
+    //Route at the given adjacency index
+    public int adjacentRoute(int index)
+    {
+        return adjacencyRoute[index];
+    }
+
+    //Location at the far end of the route at the given adjacency index
+    public int adjacentLocation(int index)
+    {
+        return adjacencyLocation[index];
+    }
+}
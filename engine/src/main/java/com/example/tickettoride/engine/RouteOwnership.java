@@ -0,0 +1,144 @@
+package com.example.tickettoride.engine;
+
+/**
+ * RouteOwnership class
+ * Tracks which player owns which route using one bit per route. The whole board fits in a long,
+ * so each player has a claim mask and there is one mask of free routes; checking, claiming and
+ * listing routes are all single bit operations.
+ * Bit N of a mask stands for the route with id N in the RouteGraph.
+ */
+public class RouteOwnership
+{
+    //Most routes a board can have and still fit in one mask
+    public static final int MAX_ROUTES = Long.SIZE;
+
+    //Routes claimed by each player
+    private final long[] playerMasks;
+    //Routes nobody has claimed yet
+    private long freeMask;
+    //Bit of the other half of each double route, or 0 for single routes
+    private final long[] twinBits;
+    //Routes each player can't claim because they own the other half
+    private final long[] blockedMasks;
+
+    public RouteOwnership(RouteGraph graph, int numPlayers)
+    {
+        if (graph.routeCount() > MAX_ROUTES)
+        {
+            throw new IllegalArgumentException("Route masks hold at most " + MAX_ROUTES + " routes, the board has " + graph.routeCount());
+        }
+        playerMasks = new long[numPlayers];
+        blockedMasks = new long[numPlayers];
+        twinBits = new long[graph.routeCount()];
+        for (int route = 0; route < graph.routeCount(); route++)
+        {
+            int twin = graph.twin(route);
+            twinBits[route] = twin < 0 ? 0L : 1L << twin;
+        }
+        //Sets one bit for every route on the board
+        freeMask = graph.routeCount() == MAX_ROUTES ? -1L : (1L << graph.routeCount()) - 1;
+    }
+
+    //Is the route still unclaimed
+    public boolean isFree(int route)
+    {
+        return (freeMask & (1L << route)) != 0;
+    }
+
+    //Does the player own the route
+    public boolean isOwnedBy(int player, int route)
+    {
+        return (playerMasks[player] & (1L << route)) != 0;
+    }
+
+    //Has the player already claimed the other half of this double route
+    public boolean isTwinOwnedBy(int player, int route)
+    {
+        return (playerMasks[player] & twinBits[route]) != 0;
+    }
+
+    //Has anyone claimed the other half of this double route
+    public boolean isTwinTaken(int route)
+    {
+        return twinBits[route] != 0 && (freeMask & twinBits[route]) == 0;
+    }
+
+    //Is the route free and not blocked by the player's claim on its twin
+    public boolean isClaimableBy(int player, int route)
+    {
+        return (freeMask & (1L << route)) != 0 && (playerMasks[player] & twinBits[route]) == 0;
+    }
+
+    //Marks the route as owned by the player
+    public void claim(int player, int route)
+    {
+        long bit = 1L << route;
+        freeMask &= ~bit;
+        playerMasks[player] |= bit;
+        blockedMasks[player] |= twinBits[route];
+    }
+
+    //Gives a claimed route back to the board
+    public void release(int player, int route)
+    {
+        long bit = 1L << route;
+        playerMasks[player] &= ~bit;
+        freeMask |= bit;
+        //A player never owns both halves, so nothing else blocks the twin
+        blockedMasks[player] &= ~twinBits[route];
+    }
+
+    //Returns the owner of the route, or GameEngine.NONE if it is free
+    public int owner(int route)
+    {
+        long bit = 1L << route;
+        for (int player = 0; player < playerMasks.length; player++)
+        {
+            if ((playerMasks[player] & bit) != 0)
+            {
+                return player;
+            }
+        }
+        return GameEngine.NONE;
+    }
+
+    //Routes owned by the player, one bit per route
+    public long ownedMask(int player)
+    {
+        return playerMasks[player];
+    }
+
+    //Routes nobody owns, one bit per route
+    public long freeMask()
+    {
+        return freeMask;
+    }
+
+    //Free routes the player isn't blocked from by owning their twin, one bit per route
+    public long claimableMask(int player)
+    {
+        return freeMask & ~blockedMasks[player];
+    }
+
+    //Number of routes the player owns
+    public int countOwned(int player)
+    {
+        return Long.bitCount(playerMasks[player]);
+    }
+
+    /**
+     * Writes the ids of the routes in a mask into the array
+     * @return the number of ids written
+     */
+    public static int toRouteIds(long mask, int[] routeIds)
+    {
+        int count = 0;
+        while (mask != 0)
+        {
+            routeIds[count++] = Long.numberOfTrailingZeros(mask);
+            //Clears the lowest set bit
+            mask &= mask - 1;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.tickettoride.engine;
+
+/**
+ * RouteShape record
+ * A route's rectangle on the map: its unrotated position and size, rotated by rotation degrees
+ * around its center the same way Node.setRotate does.
+ */
+public record RouteShape(double x, double y, double width, double height, double rotation)
+{
+    public double centerX()
+    {
+        return x + width / 2;
+    }
+
+    public double centerY()
+    {
+        return y + height / 2;
+    }
+
+    //Is the point inside the rotated rectangle
+    public boolean contains(double pointX, double pointY)
+    {
+        //Turns the point back by the rotation, so it can be checked against the unrotated rectangle
+        double radians = Math.toRadians(-rotation);
+        double dx = pointX - centerX();
+        double dy = pointY - centerY();
+        double localX = dx * Math.cos(radians) - dy * Math.sin(radians);
+        double localY = dx * Math.sin(radians) + dy * Math.cos(radians);
+        return Math.abs(localX) <= width / 2 && Math.abs(localY) <= height / 2;
+    }
+
+    //Half the width and height of the axis aligned box around the rotated rectangle
+    private double halfExtentX()
+    {
+        double radians = Math.toRadians(rotation);
+        return (Math.abs(width * Math.cos(radians)) + Math.abs(height * Math.sin(radians))) / 2;
+    }
+
+    private double halfExtentY()
+    {
+        double radians = Math.toRadians(rotation);
+        return (Math.abs(width * Math.sin(radians)) + Math.abs(height * Math.cos(radians))) / 2;
+    }
+
+    public double minX()
+    {
+        return centerX() - halfExtentX();
+    }
+
+    public double maxX()
+    {
+        return centerX() + halfExtentX();
+    }
+
+    public double minY()
+    {
+        return centerY() - halfExtentY();
+    }
+
+    public double maxY()
+    {
+        return centerY() + halfExtentY();
+    }
+}
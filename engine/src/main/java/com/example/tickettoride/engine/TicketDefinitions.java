@@ -0,0 +1,40 @@
+package com.example.tickettoride.engine;
+
+import java.util.List;
+
+import static com.example.tickettoride.engine.RouteDefinitions.LOCATION_NAMES;
+
+/**
+ * TicketDefinitions class
+ * The 18 destination tickets of the New York board, as read from its board file. A ticket id
+ * is also the index of its card image in BoardDefinition.getTicketImagePaths().
+ * Point values are the length of the shortest connection between the two locations.
+ */
+public final class TicketDefinitions
+{
+    /**
+     * A single destination ticket
+     * @param cityA  first location id
+     * @param cityB  second location id
+     * @param points points gained if completed, lost if not
+     */
+    public record TicketDefinition(int cityA, int cityB, int points)
+    {
+    }
+
+    //Tickets of the New York board, in the order of its board file
+    public static final List<TicketDefinition> TICKETS = BoardDefinition.NEW_YORK.getTickets();
+
+    public static final int TICKET_COUNT = TICKETS.size();
+
+    private TicketDefinitions()
+    {
+    }
+
+    //Text shown for a ticket, matching DestinationCard.toString()
+    public static String describe(int ticketId)
+    {
+        TicketDefinition ticket = TICKETS.get(ticketId);
+        return LOCATION_NAMES[ticket.cityA()] + " to " + LOCATION_NAMES[ticket.cityB()] + " for " + ticket.points() + " points";
+    }
+}
@@ -0,0 +1,374 @@
+package com.example.tickettoride.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tournament class
+ * Command line simulator that plays many bot-vs-bot games for balance testing, with no display.
+ * The games are split in halves until each piece is small, and the pieces run as fork/join tasks,
+ * so idle cores steal work from busy ones. Every game is seeded from the tournament seed and its
+ * own index, and results are merged in index order, so the same arguments always print the same
+ * results whatever the number of threads.
+ *
+ * Usage: java -jar engine/target/TickettoRide-engine-1.0-SNAPSHOT.jar [options]
+ *   --games N      games to play (default 1000)
+ *   --bots A,B,..  one bot per seat: random, greedy, playouts or mcts (default greedy,greedy)
+ *   --budget N     playouts or iterations a search bot makes per move (default 200)
+ *   --seed N       tournament seed (default 1)
+ *   --threads N    worker threads (default one per core)
+ */
+public final class Tournament
+{
+    public static final String[] BOT_NAMES = {"random", "greedy", "playouts", "mcts"};
+    //Games a task plays itself instead of splitting further
+    private static final int GAMES_PER_TASK = 8;
+    //Search bots stop on their budget, never on the clock, so runs can be repeated
+    private static final long UNLIMITED_MILLIS = 24L * 60 * 60 * 1000;
+    //Table size for each tree search bot, games run side by side so each gets a small one
+    private static final int MCTS_TABLE_CAPACITY = 1 << 16;
+
+    private final String[] bots;
+    private final int budget;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    public Tournament(String[] bots, int budget, long seed, ForkJoinPool pool)
+    {
+        if (bots.length < GameEngine.MIN_PLAYERS || bots.length > GameEngine.MAX_PLAYERS)
+        {
+            throw new IllegalArgumentException("A game needs " + GameEngine.MIN_PLAYERS + " to " + GameEngine.MAX_PLAYERS + " bots, not " + bots.length);
+        }
+        for (String bot : bots)
+        {
+            if (!Arrays.asList(BOT_NAMES).contains(bot))
+            {
+                throw new IllegalArgumentException("Unknown bot " + bot + ", expected one of " + String.join(", ", BOT_NAMES));
+            }
+        }
+        if (budget <= 0)
+        {
+            throw new IllegalArgumentException("The search budget must be positive, not " + budget);
+        }
+        this.bots = bots.clone();
+        this.budget = budget;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    //Plays the games and returns their combined statistics
+    public Results play(int games)
+    {
+        return pool.invoke(new GamesTask(0, games));
+    }
+
+    //Plays one complete game, the game index picks its cards and the bots' randomness
+    private GameEngine playGame(int index)
+    {
+        GameRandom gameRandom = new GameRandom(seed ^ index * 0x9e3779b97f4a7c15L);
+        GameEngine game = new GameEngine(bots.length, gameRandom.split());
+        Bot[] players = new Bot[bots.length];
+        for (int seat = 0; seat < bots.length; seat++)
+        {
+            players[seat] = createBot(bots[seat], gameRandom.split());
+        }
+        for (int moves = 0; moves < MonteCarloBot.MAX_PLAYOUT_MOVES && !game.isGameOver(); moves++)
+        {
+            int move = players[game.getCurrentPlayer()].chooseMove(game);
+            if (move == GameEngine.NONE)
+            {
+                break;
+            }
+            game.applyMove(move);
+        }
+        return game;
+    }
+
+    private Bot createBot(String name, GameRandom random)
+    {
+        int[] buffer = new int[Move.MAX_LEGAL_MOVES];
+        return switch (name)
+        {
+            case "random" -> (game, cancelled) ->
+            {
+                int count = game.legalMoves(buffer);
+                return count == 0 ? GameEngine.NONE : buffer[random.nextInt(count)];
+            };
+            case "greedy" -> (game, cancelled) ->
+            {
+                int count = game.legalMoves(buffer);
+                return count == 0 ? GameEngine.NONE : MonteCarloBot.pickPlayoutMove(buffer, count, random);
+            };
+            case "playouts" -> new MonteCarloBot(pool, UNLIMITED_MILLIS, random, budget);
+            //A single search task keeps the tree search repeatable, the other cores play other games
+            case "mcts" -> new MctsBot(pool, 1, UNLIMITED_MILLIS, random, budget,
+                    new TranspositionTable(MCTS_TABLE_CAPACITY, TranspositionTable.DEFAULT_STRIPES));
+            default -> throw new IllegalArgumentException("Unknown bot " + name);
+        };
+    }
+
+    //Plays a range of games, splitting it in two while it is large
+    //Fork/join tasks are Serializable, but these only ever live inside one tournament
+    @SuppressWarnings("serial")
+    private final class GamesTask extends RecursiveTask<Results>
+    {
+        private final int from;
+        private final int to;
+
+        GamesTask(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Results compute()
+        {
+            if (to - from <= GAMES_PER_TASK)
+            {
+                Results results = new Results(bots.length);
+                for (int index = from; index < to; index++)
+                {
+                    results.add(playGame(index));
+                }
+                return results;
+            }
+            int middle = (from + to) >>> 1;
+            GamesTask first = new GamesTask(from, middle);
+            first.fork();
+            Results second = new GamesTask(middle, to).compute();
+            //Merged in index order so the totals don't depend on which thread finished first
+            Results results = first.join();
+            results.merge(second);
+            return results;
+        }
+    }
+
+    /**
+     * Results class
+     * Totals over a set of games, per seat, route and ticket
+     */
+    public static final class Results
+    {
+        private final int seats;
+        private int games;
+        private long turns;
+        //Won outright, or shared with other players on the same top score
+        private final int[] wins;
+        private final int[] ties;
+        private final long[] scores;
+        private final int[] keptTickets;
+        private final int[] completedTickets;
+        //Games each route was claimed in
+        private final int[] routeClaims = new int[RouteGraph.NEW_YORK.routeCount()];
+        //Times each ticket was kept and completed, by anyone
+        private final int[] ticketKept = new int[TicketDefinitions.TICKET_COUNT];
+        private final int[] ticketCompleted = new int[TicketDefinitions.TICKET_COUNT];
+
+        Results(int seats)
+        {
+            this.seats = seats;
+            wins = new int[seats];
+            ties = new int[seats];
+            scores = new long[seats];
+            keptTickets = new int[seats];
+            completedTickets = new int[seats];
+        }
+
+        void add(GameEngine game)
+        {
+            games++;
+            turns += game.getTurnNumber();
+            int best = Integer.MIN_VALUE;
+            int winners = 0;
+            for (int seat = 0; seat < seats; seat++)
+            {
+                int score = game.getPlayer(seat).getScore();
+                scores[seat] += score;
+                if (score > best)
+                {
+                    best = score;
+                    winners = 1;
+                }
+                else if (score == best)
+                {
+                    winners++;
+                }
+                for (int ticket : game.getPlayer(seat).getTickets())
+                {
+                    keptTickets[seat]++;
+                    ticketKept[ticket]++;
+                    if (game.isTicketComplete(seat, ticket))
+                    {
+                        completedTickets[seat]++;
+                        ticketCompleted[ticket]++;
+                    }
+                }
+            }
+            for (int seat = 0; seat < seats; seat++)
+            {
+                if (game.getPlayer(seat).getScore() == best)
+                {
+                    if (winners == 1)
+                    {
+                        wins[seat]++;
+                    }
+                    else
+                    {
+                        ties[seat]++;
+                    }
+                }
+            }
+            for (int route = 0; route < routeClaims.length; route++)
+            {
+                if (game.getRouteOwner(route) != GameEngine.NONE)
+                {
+                    routeClaims[route]++;
+                }
+            }
+        }
+
+        void merge(Results other)
+        {
+            games += other.games;
+            turns += other.turns;
+            for (int seat = 0; seat < seats; seat++)
+            {
+                wins[seat] += other.wins[seat];
+                ties[seat] += other.ties[seat];
+                scores[seat] += other.scores[seat];
+                keptTickets[seat] += other.keptTickets[seat];
+                completedTickets[seat] += other.completedTickets[seat];
+            }
+            for (int route = 0; route < routeClaims.length; route++)
+            {
+                routeClaims[route] += other.routeClaims[route];
+            }
+            for (int ticket = 0; ticket < ticketKept.length; ticket++)
+            {
+                ticketKept[ticket] += other.ticketKept[ticket];
+                ticketCompleted[ticket] += other.ticketCompleted[ticket];
+            }
+        }
+
+        public int getGames()
+        {
+            return games;
+        }
+
+        public double getWinRate(int seat)
+        {
+            return games == 0 ? 0 : (double) wins[seat] / games;
+        }
+
+        public double getAverageScore(int seat)
+        {
+            return games == 0 ? 0 : (double) scores[seat] / games;
+        }
+
+        //Fraction of games the route was claimed in
+        public double getRouteClaimRate(int route)
+        {
+            return games == 0 ? 0 : (double) routeClaims[route] / games;
+        }
+
+        //Fraction of the times the ticket was kept that it was completed
+        public double getTicketCompletionRate(int ticket)
+        {
+            return ticketKept[ticket] == 0 ? 0 : (double) ticketCompleted[ticket] / ticketKept[ticket];
+        }
+
+        //Prints the report, naming each seat after its bot
+        public void print(String[] bots, double seconds)
+        {
+            RouteGraph graph = RouteGraph.NEW_YORK;
+            System.out.printf(Locale.ROOT, "%d games in %.2f s, %.1f games/s, %.1f turns per game%n",
+                    games, seconds, games / seconds, games == 0 ? 0 : (double) turns / games);
+
+            System.out.println();
+            System.out.println("Seat  Bot        Wins   Ties   Avg score  Tickets done");
+            for (int seat = 0; seat < seats; seat++)
+            {
+                System.out.printf(Locale.ROOT, "%-5d %-10s %5.1f%% %5.1f%% %10.1f %12.1f%%%n", seat + 1, bots[seat],
+                        100 * getWinRate(seat), games == 0 ? 0 : 100.0 * ties[seat] / games, getAverageScore(seat),
+                        keptTickets[seat] == 0 ? 0 : 100.0 * completedTickets[seat] / keptTickets[seat]);
+            }
+
+            System.out.println();
+            System.out.println("Claimed  Route");
+            List<Integer> routes = new ArrayList<>();
+            for (int route = 0; route < routeClaims.length; route++)
+            {
+                routes.add(route);
+            }
+            routes.sort(Comparator.comparingInt((Integer route) -> routeClaims[route]).reversed());
+            for (int route : routes)
+            {
+                System.out.printf(Locale.ROOT, "%6.1f%%  %s%n", 100 * getRouteClaimRate(route), graph.routeName(route));
+            }
+
+            System.out.println();
+            System.out.println("Done    Kept    Ticket");
+            for (int ticket = 0; ticket < ticketKept.length; ticket++)
+            {
+                System.out.printf(Locale.ROOT, "%5.1f%% %6d    %s%n", 100 * getTicketCompletionRate(ticket), ticketKept[ticket],
+                        TicketDefinitions.describe(ticket));
+            }
+        }
+    }
+
+    public static void main(String[] args)
+    {
+        int games = 1000;
+        String[] bots = {"greedy", "greedy"};
+        int budget = 200;
+        long seed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Tournament tournament;
+        try
+        {
+            for (int i = 0; i < args.length; i++)
+            {
+                String option = args[i];
+                if (i + 1 >= args.length)
+                {
+                    throw new IllegalArgumentException("Missing value after " + option);
+                }
+                String value = args[++i];
+                switch (option)
+                {
+                    case "--games" -> games = Integer.parseInt(value);
+                    case "--bots" -> bots = value.split(",");
+                    case "--budget" -> budget = Integer.parseInt(value);
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (games < 1 || threads < 1)
+            {
+                throw new IllegalArgumentException("Games and threads must be at least 1");
+            }
+            tournament = new Tournament(bots, budget, seed, new ForkJoinPool(threads));
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: Tournament [--games N] [--bots A,B,..] [--budget N] [--seed N] [--threads N]");
+            System.err.println("Bots: " + String.join(", ", BOT_NAMES));
+            System.exit(2);
+            return;
+        }
+
+        System.out.printf(Locale.ROOT, "Playing %d games of %s on %d threads, seed %d%n", games, String.join(" vs ", bots), threads, seed);
+        long start = System.nanoTime();
+        Results results = tournament.play(games);
+        results.print(bots, (System.nanoTime() - start) / 1e9);
+        tournament.pool.shutdown();
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.tickettoride.engine;
+
+import java.util.Arrays;
+
+/*
+    The deck of Transportation cards, stored as color indexes (see CardColor)
+    Cards live in one ring shaped array: the draw pile starts at the draw index and the discard
+    pile follows right behind it. Cards held by players are in neither, so the two piles always
+    fit in the array. When the draw pile runs out the discards become the new draw pile and are
+    shuffled in place, so drawing and discarding never allocate.
+    Every write to the array is logged with the card it replaced, so the engine can take the deck
+    back to an earlier mark when a move is unmade.
+ */
+public class TransportationDeck
+{
+    //Cards of both piles, the draw pile first and then the discard pile
+    private final int[] cards;
+    private final GameRandom random;
+    //Position of the top card of the draw pile
+    private int drawIndex;
+    private int drawCount;
+    private int discardCount;
+    //Pile sizes saved by mark and (position, replaced card) pairs of every write since, see rollback
+    private int[] log = new int[64];
+    private int logSize;
+
+    //Creates the standard deck: 6 cards of each color plus 8 taxis, shuffled
+    public TransportationDeck(GameRandom random)
+    {
+        this(standardComposition(), random);
+    }
+
+    //Creates a shuffled deck holding cardsPerColor[c] cards of each color index c
+    public TransportationDeck(int[] cardsPerColor, GameRandom random)
+    {
+        this.random = random;
+        int total = 0;
+        for (int amount : cardsPerColor)
+        {
+            total += amount;
+        }
+        cards = new int[total];
+        for (int color = 0; color < cardsPerColor.length; color++)
+        {
+            for (int i = 0; i < cardsPerColor[color]; i++)
+            {
+                cards[drawCount++] = color;
+            }
+        }
+        shuffle();
+    }
+
+    private static int[] standardComposition()
+    {
+        int[] cardsPerColor = new int[CardColor.COUNT];
+        for (int color = 0; color < CardColor.TAXI_INDEX; color++)
+        {
+            cardsPerColor[color] = GameEngine.CARDS_PER_COLOR;
+        }
+        cardsPerColor[CardColor.TAXI_INDEX] = GameEngine.TAXI_CARDS;
+        return cardsPerColor;
+    }
+
+    //Draws the top card, reshuffling the discards when the draw pile is empty
+    //Returns GameEngine.NONE if both piles are empty
+    public int draw()
+    {
+        if (drawCount == 0)
+        {
+            reshuffleDiscards();
+            if (drawCount == 0)
+            {
+                return GameEngine.NONE;
+            }
+        }
+        int card = cards[drawIndex];
+        drawIndex = (drawIndex + 1) % cards.length;
+        drawCount--;
+        return card;
+    }
+
+    //Puts a card on the discard pile
+    public void discard(int color)
+    {
+        discard(color, 1);
+    }
+
+    //Puts several cards of the same color on the discard pile
+    public void discard(int color, int amount)
+    {
+        if (drawCount + discardCount + amount > cards.length)
+        {
+            throw new IllegalStateException("Cannot discard " + amount + " cards, the deck only holds " + cards.length);
+        }
+        for (int i = 0; i < amount; i++)
+        {
+            write((drawIndex + drawCount + discardCount) % cards.length, color);
+            discardCount++;
+        }
+    }
+
+    //Turns the discard pile into a freshly shuffled draw pile
+    private void reshuffleDiscards()
+    {
+        drawIndex = (drawIndex + drawCount) % cards.length;
+        drawCount += discardCount;
+        discardCount = 0;
+        shuffle();
+    }
+
+    //Shuffles the draw pile in place (Fisher-Yates)
+    public final void shuffle()
+    {
+        for (int i = drawCount - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            int a = (drawIndex + i) % cards.length;
+            int b = (drawIndex + j) % cards.length;
+            int swap = cards[a];
+            write(a, cards[b]);
+            write(b, swap);
+        }
+    }
+
+    private void write(int position, int card)
+    {
+        //Only logged while a mark is held, so a deck nobody rolls back doesn't fill the log
+        if (logSize > 0)
+        {
+            push(position);
+            push(cards[position]);
+        }
+        cards[position] = card;
+    }
+
+    private void push(int value)
+    {
+        if (logSize == log.length)
+        {
+            log = Arrays.copyOf(log, logSize * 2);
+        }
+        log[logSize++] = value;
+    }
+
+    /**
+     * Remembers the piles as they are now
+     * @return the mark to pass to rollback
+     */
+    int mark()
+    {
+        push(drawIndex);
+        push(drawCount);
+        push(discardCount);
+        return logSize;
+    }
+
+    //Undoes every draw, discard and shuffle since the mark, which must be the latest one not yet rolled back
+    void rollback(int mark)
+    {
+        if (mark < 3 || mark > logSize)
+        {
+            throw new IllegalStateException("Deck mark " + mark + " is not in the log of " + logSize);
+        }
+        while (logSize > mark)
+        {
+            int card = log[--logSize];
+            cards[log[--logSize]] = card;
+        }
+        discardCount = log[--logSize];
+        drawCount = log[--logSize];
+        drawIndex = log[--logSize];
+    }
+
+    //Forgets every mark, the deck can't be rolled back past this point
+    void clearLog()
+    {
+        logSize = 0;
+    }
+
+    //Card at the position, counting down the draw pile from the top and then through the discards
+    int cardAt(int position)
+    {
+        if (position < 0 || position >= drawCount + discardCount)
+        {
+            throw new IndexOutOfBoundsException("Position " + position + " of " + (drawCount + discardCount) + " cards");
+        }
+        return cards[(drawIndex + position) % cards.length];
+    }
+
+    //Replaces both piles, piles holds the draw pile from the top followed by the discard pile
+    void restore(int[] piles, int drawCount, int discardCount)
+    {
+        if (drawCount < 0 || discardCount < 0 || drawCount + discardCount > cards.length)
+        {
+            throw new IllegalArgumentException("The deck holds " + cards.length + " cards, not "
+                    + drawCount + " to draw and " + discardCount + " discarded");
+        }
+        System.arraycopy(piles, 0, cards, 0, drawCount + discardCount);
+        this.drawIndex = 0;
+        this.drawCount = drawCount;
+        this.discardCount = discardCount;
+        logSize = 0;
+    }
+
+    //Can a card be drawn, either from the draw pile or after reshuffling the discards
+    public boolean canDraw()
+    {
+        return drawCount + discardCount > 0;
+    }
+
+    //Number of cards left in the draw pile
+    public int size()
+    {
+        return drawCount;
+    }
+
+    public int getDiscardCount()
+    {
+        return discardCount;
+    }
+
+    //Total number of cards the deck was created with
+    public int capacity()
+    {
+        return cards.length;
+    }
+}
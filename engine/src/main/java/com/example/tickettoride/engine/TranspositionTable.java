@@ -0,0 +1,183 @@
+package com.example.tickettoride.engine;
+
+/**
+ * TranspositionTable class
+ * Visit counts and total rewards of search tree nodes, keyed by Zobrist hash, shared by every
+ * thread of a search. The table is a fixed number of buckets of WAYS entries each in flat arrays,
+ * so it never grows: a new node takes an empty entry of its bucket or else replaces the entry
+ * with the fewest visits, which is the one the search learned least from.
+ * Buckets are guarded by lock striping: each bucket belongs to one of a fixed number of stripes,
+ * and a thread only holds that stripe's lock while it touches the bucket. With many more
+ * stripes than threads two threads rarely want the same lock, so searches scale with cores.
+ */
+public final class TranspositionTable
+{
+    public static final int DEFAULT_CAPACITY = 1 << 18;
+    public static final int DEFAULT_STRIPES = 1024;
+    //Entries per bucket
+    private static final int WAYS = 4;
+    //Marks an unused entry, keys that happen to be 0 are stored as EMPTY_REPLACEMENT instead
+    private static final long EMPTY = 0;
+    private static final long EMPTY_REPLACEMENT = 1;
+
+    private final long[] keys;
+    private final int[] visits;
+    private final double[] rewards;
+    private final int bucketMask;
+    private final Object[] locks;
+    private final int stripeMask;
+
+    public TranspositionTable()
+    {
+        this(DEFAULT_CAPACITY, DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param capacity most entries the table holds, a power of two of at least WAYS
+     * @param stripes number of locks, a power of two
+     */
+    public TranspositionTable(int capacity, int stripes)
+    {
+        if (capacity < WAYS || Integer.bitCount(capacity) != 1 || stripes < 1 || Integer.bitCount(stripes) != 1)
+        {
+            throw new IllegalArgumentException("Capacity and stripes must be powers of two, not " + capacity + " and " + stripes);
+        }
+        keys = new long[capacity];
+        visits = new int[capacity];
+        rewards = new double[capacity];
+        bucketMask = capacity / WAYS - 1;
+        locks = new Object[Math.min(stripes, capacity / WAYS)];
+        for (int i = 0; i < locks.length; i++)
+        {
+            locks[i] = new Object();
+        }
+        stripeMask = locks.length - 1;
+    }
+
+    /**
+     * Key of a move made from a state, or of the state itself for GameEngine.NONE
+     * Mixing the move in keeps the keys of a state's moves apart from each other and from it.
+     */
+    public static long key(long stateHash, int move)
+    {
+        long key = stateHash ^ (move + 1) * 0x9e3779b97f4a7c15L;
+        return key == EMPTY ? EMPTY_REPLACEMENT : key;
+    }
+
+    //Times the node has been visited, 0 if it isn't in the table
+    public int visits(long key)
+    {
+        int bucket = bucket(key);
+        synchronized (locks[bucket & stripeMask])
+        {
+            int entry = find(bucket, key);
+            return entry < 0 ? 0 : visits[entry];
+        }
+    }
+
+    //Sum of the rewards backed up through the node, 0 if it isn't in the table
+    public double totalReward(long key)
+    {
+        int bucket = bucket(key);
+        synchronized (locks[bucket & stripeMask])
+        {
+            int entry = find(bucket, key);
+            return entry < 0 ? 0 : rewards[entry];
+        }
+    }
+
+    /**
+     * Counts a visit of the node, adding it to the table if needed
+     * The visit counts before its reward arrives, so other threads see the node as a little
+     * worse meanwhile and spread out over different nodes (a virtual loss).
+     */
+    public void addVisit(long key)
+    {
+        int bucket = bucket(key);
+        synchronized (locks[bucket & stripeMask])
+        {
+            int entry = find(bucket, key);
+            if (entry < 0)
+            {
+                entry = replace(bucket);
+                keys[entry] = key;
+                visits[entry] = 0;
+                rewards[entry] = 0;
+            }
+            visits[entry]++;
+        }
+    }
+
+    //Adds the reward of a visit counted earlier, dropped if the node was replaced meanwhile
+    public void addReward(long key, double reward)
+    {
+        int bucket = bucket(key);
+        synchronized (locks[bucket & stripeMask])
+        {
+            int entry = find(bucket, key);
+            if (entry >= 0)
+            {
+                rewards[entry] += reward;
+            }
+        }
+    }
+
+    //Forgets every node
+    public void clear()
+    {
+        for (int stripe = 0; stripe < locks.length; stripe++)
+        {
+            synchronized (locks[stripe])
+            {
+                for (int bucket = stripe; bucket <= bucketMask; bucket += locks.length)
+                {
+                    for (int entry = bucket * WAYS; entry < (bucket + 1) * WAYS; entry++)
+                    {
+                        keys[entry] = EMPTY;
+                    }
+                }
+            }
+        }
+    }
+
+    public int capacity()
+    {
+        return keys.length;
+    }
+
+    private int bucket(long key)
+    {
+        //Zobrist keys are already random, the high bits pick the bucket
+        return (int) (key >>> 32) & bucketMask;
+    }
+
+    private int find(int bucket, long key)
+    {
+        for (int entry = bucket * WAYS; entry < (bucket + 1) * WAYS; entry++)
+        {
+            if (keys[entry] == key)
+            {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    //Picks the entry a new node goes in: an empty one, or else the least visited
+    private int replace(int bucket)
+    {
+        int least = bucket * WAYS;
+        for (int entry = bucket * WAYS; entry < (bucket + 1) * WAYS; entry++)
+        {
+            if (keys[entry] == EMPTY)
+            {
+                return entry;
+            }
+            if (visits[entry] < visits[least])
+            {
+                least = entry;
+            }
+        }
+        return least;
+    }
+}
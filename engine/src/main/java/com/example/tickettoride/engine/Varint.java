@@ -0,0 +1,78 @@
+package com.example.tickettoride.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Varint class
+ * Variable length integers for the binary save files: seven bits per byte, low bits first, with
+ * the top bit set on every byte but the last. Nearly every number in a game (card counts, ids,
+ * scores) is below 128, so they take one byte each. Signed values are zig-zag encoded first so
+ * small negative numbers such as GameEngine.NONE stay short too.
+ */
+public final class Varint
+{
+    //Most bytes an int can take
+    public static final int MAX_INT_BYTES = 5;
+
+    private Varint()
+    {
+    }
+
+    //Writes a value that is never negative
+    public static void putUnsigned(ByteBuffer buffer, int value)
+    {
+        while ((value & ~0x7F) != 0)
+        {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static int getUnsigned(ByteBuffer buffer)
+    {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7)
+        {
+            int b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+            {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint is longer than " + MAX_INT_BYTES + " bytes");
+    }
+
+    public static void putSigned(ByteBuffer buffer, int value)
+    {
+        putUnsigned(buffer, (value << 1) ^ (value >> 31));
+    }
+
+    public static int getSigned(ByteBuffer buffer)
+    {
+        int value = getUnsigned(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    //Writes the string as its UTF-8 length followed by the bytes
+    public static void putString(ByteBuffer buffer, String value)
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putUnsigned(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    public static String getString(ByteBuffer buffer)
+    {
+        int length = getUnsigned(buffer);
+        if (length > buffer.remaining())
+        {
+            throw new IllegalArgumentException("String of " + length + " bytes runs past the end of the data");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
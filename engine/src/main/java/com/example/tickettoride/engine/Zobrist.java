@@ -0,0 +1,120 @@
+package com.example.tickettoride.engine;
+
+/**
+ * Zobrist class
+ * Random 64 bit keys for hashing game states. A state's hash is the XOR of one key per feature
+ * it has: the owner of each claimed route, the count of each color in each hand, the tickets
+ * each player holds, the card in each face up slot, the current player, the turn phase, the
+ * turns left once the last round has started, and while a player is choosing which tickets to
+ * keep, the ticket in each drawn slot. Changing a feature XORs its old key out and its new key
+ * in, so GameEngine keeps the hash up to date with a few XORs per move.
+ * The draw pile order and the tickets in the deck are left out on purpose: a player can't see
+ * them, so states that differ only there look the same to a bot and share search statistics.
+ * The drawn tickets are in, since keep moves name them by slot: without them, keeping the first
+ * ticket of one draw would share statistics with keeping the first ticket of an unrelated one.
+ */
+public final class Zobrist
+{
+    //Fixed so hashes are the same in every run, and can be compared across threads and games
+    private static final long SEED = 0x5A0B0157L;
+    //Most cards of one color a hand can hold, every card in the deck
+    private static final int MAX_COUNT = CardColor.TAXI_INDEX * GameEngine.CARDS_PER_COLOR + GameEngine.TAXI_CARDS;
+
+    private static final long[][] ROUTE_OWNER = new long[GameEngine.MAX_PLAYERS][RouteOwnership.MAX_ROUTES];
+    private static final long[][][] HAND_COUNT = new long[GameEngine.MAX_PLAYERS][CardColor.COUNT][MAX_COUNT + 1];
+    private static final long[][] HELD_TICKET = new long[GameEngine.MAX_PLAYERS][TicketDefinitions.TICKET_COUNT];
+    private static final long[][] FACE_UP = new long[GameEngine.FACE_UP_SLOTS][CardColor.COUNT];
+    private static final long[] CURRENT_PLAYER = new long[GameEngine.MAX_PLAYERS];
+    private static final long[] PHASE = new long[GameEngine.PHASE_GAME_OVER + 1];
+    //Indexed by turns left, 0 to MAX_PLAYERS
+    private static final long[] FINAL_TURNS = new long[GameEngine.MAX_PLAYERS + 1];
+    private static final long[][] PENDING_TICKET = new long[GameEngine.DESTINATION_CARDS_PER_DRAW][TicketDefinitions.TICKET_COUNT];
+
+    static
+    {
+        GameRandom random = new GameRandom(SEED);
+        for (long[] keys : ROUTE_OWNER)
+        {
+            fill(keys, random);
+        }
+        for (long[][] player : HAND_COUNT)
+        {
+            for (long[] keys : player)
+            {
+                fill(keys, random);
+            }
+        }
+        for (long[] keys : HELD_TICKET)
+        {
+            fill(keys, random);
+        }
+        for (long[] keys : FACE_UP)
+        {
+            fill(keys, random);
+        }
+        fill(CURRENT_PLAYER, random);
+        fill(PHASE, random);
+        fill(FINAL_TURNS, random);
+        for (long[] keys : PENDING_TICKET)
+        {
+            fill(keys, random);
+        }
+    }
+
+    private Zobrist()
+    {
+    }
+
+    private static void fill(long[] keys, GameRandom random)
+    {
+        for (int i = 0; i < keys.length; i++)
+        {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    public static long routeOwner(int player, int route)
+    {
+        return ROUTE_OWNER[player][route];
+    }
+
+    //Key for the player holding exactly count cards of the color
+    public static long handCount(int player, int color, int count)
+    {
+        return HAND_COUNT[player][color][count];
+    }
+
+    //Key for a ticket the player holds
+    public static long heldTicket(int player, int ticket)
+    {
+        return HELD_TICKET[player][ticket];
+    }
+
+    //Key for the card in a face up slot, empty slots have no key
+    public static long faceUp(int slot, int card)
+    {
+        return card == GameEngine.NONE ? 0 : FACE_UP[slot][card];
+    }
+
+    public static long currentPlayer(int player)
+    {
+        return CURRENT_PLAYER[player];
+    }
+
+    public static long phase(int phase)
+    {
+        return PHASE[phase];
+    }
+
+    //Key for the turns left in the last round, before it starts (NONE) there is no key
+    public static long finalTurns(int turnsLeft)
+    {
+        return turnsLeft == GameEngine.NONE ? 0 : FINAL_TURNS[turnsLeft];
+    }
+
+    //Key for a ticket drawn into a slot and waiting to be kept or returned
+    public static long pendingTicket(int slot, int ticket)
+    {
+        return PENDING_TICKET[slot][ticket];
+    }
+}
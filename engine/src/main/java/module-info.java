@@ -0,0 +1,3 @@
+module com.example.tickettoride.engine {
+    exports com.example.tickettoride.engine;
+}
@@ -0,0 +1,125 @@
+package com.example.tickettoride.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DestinationTrackerTest class
+ * Unions connect locations per player, and rollback takes them back exactly to a mark.
+ */
+class DestinationTrackerTest
+{
+    private static final int LOCATIONS = 6;
+
+    @Test
+    void connectingLinksWholeChains()
+    {
+        DestinationTracker tracker = new DestinationTracker(2, LOCATIONS);
+        tracker.connect(0, 0, 1);
+        tracker.connect(0, 2, 1);
+        assertTrue(tracker.isConnected(0, 0, 2));
+        assertFalse(tracker.isConnected(0, 0, 3));
+        //Each player has their own sets
+        assertFalse(tracker.isConnected(1, 0, 1));
+    }
+
+    @Test
+    void connectingLinkedLocationsAddsNoUnion()
+    {
+        DestinationTracker tracker = new DestinationTracker(1, LOCATIONS);
+        tracker.connect(0, 0, 1);
+        tracker.connect(0, 1, 2);
+        int mark = tracker.mark();
+        tracker.connect(0, 2, 0);
+        assertEquals(mark, tracker.mark());
+    }
+
+    @Test
+    void rollbackUndoesTheUnionsAfterTheMark()
+    {
+        DestinationTracker tracker = new DestinationTracker(2, LOCATIONS);
+        tracker.connect(0, 0, 1);
+        tracker.connect(1, 4, 5);
+        int mark = tracker.mark();
+        tracker.connect(0, 1, 2);
+        tracker.connect(0, 3, 4);
+        tracker.connect(0, 2, 3);
+        tracker.connect(1, 3, 4);
+        assertTrue(tracker.isConnected(0, 0, 4));
+        assertTrue(tracker.isConnected(1, 3, 5));
+
+        tracker.rollback(mark);
+        assertEquals(mark, tracker.mark());
+        assertTrue(tracker.isConnected(0, 0, 1));
+        assertTrue(tracker.isConnected(1, 4, 5));
+        assertFalse(tracker.isConnected(0, 1, 2));
+        assertFalse(tracker.isConnected(0, 3, 4));
+        assertFalse(tracker.isConnected(1, 3, 4));
+
+        tracker.rollback(0);
+        assertFalse(tracker.isConnected(0, 0, 1));
+        assertFalse(tracker.isConnected(1, 4, 5));
+    }
+
+    @Test
+    void rollbackThenConnectAgainGivesTheSameSets()
+    {
+        DestinationTracker tracker = new DestinationTracker(1, LOCATIONS);
+        int[][] routes = {{0, 1}, {2, 3}, {1, 3}, {4, 5}, {5, 0}};
+        for (int[] route : routes)
+        {
+            tracker.connect(0, route[0], route[1]);
+        }
+        tracker.rollback(2);
+        for (int i = 2; i < routes.length; i++)
+        {
+            tracker.connect(0, routes[i][0], routes[i][1]);
+        }
+        for (int a = 0; a < LOCATIONS; a++)
+        {
+            for (int b = 0; b < LOCATIONS; b++)
+            {
+                assertTrue(tracker.isConnected(0, a, b), a + " to " + b);
+            }
+        }
+    }
+
+    @Test
+    void markOutsideTheStackIsRefused()
+    {
+        DestinationTracker tracker = new DestinationTracker(1, LOCATIONS);
+        tracker.connect(0, 0, 1);
+        assertThrows(IllegalStateException.class, () -> tracker.rollback(2));
+        assertThrows(IllegalStateException.class, () -> tracker.rollback(-1));
+    }
+
+    @Test
+    void unmakingClaimsKeepsTicketsInStepWithTheRoutes()
+    {
+        //A fresh copy rebuilds the sets from the routes owned, so it is the reference for the rolled back ones
+        GameEngine game = new GameEngine(3, 17);
+        GameRandom random = new GameRandom(17);
+        int moves = 0;
+        while (!game.isGameOver())
+        {
+            game.make(GameEngineTest.randomMove(game, random));
+            moves++;
+        }
+        for (; moves > 0; moves--)
+        {
+            GameEngine rebuilt = game.copy();
+            for (int p = 0; p < game.getNumPlayers(); p++)
+            {
+                for (int ticket = 0; ticket < TicketDefinitions.TICKET_COUNT; ticket++)
+                {
+                    assertEquals(rebuilt.isTicketComplete(p, ticket), game.isTicketComplete(p, ticket));
+                }
+            }
+            game.unmakeTo(moves - 1);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.tickettoride.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * GameEngineTest class
+ * Plays seeded games with random moves and checks that unmaking, the incremental hash and copies
+ * all agree with the state the engine writes out.
+ */
+class GameEngineTest
+{
+    //Games played by each test, the player count cycles through two, three and four
+    private static final int GAMES = 60;
+
+    @Test
+    void unmakeRestoresTheStateByteForByte()
+    {
+        for (int g = 0; g < GAMES; g++)
+        {
+            GameEngine game = new GameEngine(2 + g % 3, g);
+            GameRandom random = new GameRandom(g);
+            List<byte[]> states = new ArrayList<>();
+            List<Integer> moves = new ArrayList<>();
+            while (!game.isGameOver())
+            {
+                states.add(state(game));
+                int move = randomMove(game, random);
+                moves.add(move);
+                game.make(move);
+            }
+            byte[] end = state(game);
+
+            for (int i = moves.size() - 1; i >= 0; i--)
+            {
+                game.unmake(moves.get(i));
+                assertArrayEquals(states.get(i), state(game), "game " + g + ", unmaking move " + i);
+            }
+            assertEquals(0, game.getUndoDepth());
+            //Making the same moves again deals the same cards, since unmake rewinds the generator too
+            for (int move : moves)
+            {
+                game.make(move);
+            }
+            assertArrayEquals(end, state(game), "game " + g + " made again");
+        }
+    }
+
+    @Test
+    void unmakeRefusesAMoveThatWasNotTheLastOne()
+    {
+        GameEngine game = new GameEngine(2, 1);
+        assertThrows(IllegalStateException.class, () -> game.unmake(Move.drawDeck()));
+        game.make(game.legalMoves()[0]);
+        //Keeping tickets is never a legal first move, so it can't be the one just made
+        assertThrows(IllegalStateException.class, () -> game.unmake(Move.keepTickets(1)));
+    }
+
+    @Test
+    void applyMoveKeepsNoUndoFrames()
+    {
+        GameEngine game = new GameEngine(3, 7);
+        GameRandom random = new GameRandom(7);
+        while (!game.isGameOver())
+        {
+            game.applyMove(randomMove(game, random));
+            assertEquals(0, game.getUndoDepth());
+        }
+    }
+
+    @Test
+    void applyMoveRefusesIllegalMoves()
+    {
+        GameEngine game = new GameEngine(2, 3);
+        assertThrows(IllegalArgumentException.class, () -> game.applyMove(Move.keepTickets(1)));
+    }
+
+    @Test
+    void incrementalHashMatchesAHashFromScratch()
+    {
+        for (int g = 0; g < GAMES; g++)
+        {
+            GameEngine game = new GameEngine(2 + g % 3, g);
+            GameRandom random = new GameRandom(g);
+            assertEquals(game.computeHash(), game.getHash(), "game " + g + " at the start");
+            while (!game.isGameOver())
+            {
+                int move = randomMove(game, random);
+                long before = game.getHash();
+                game.make(move);
+                assertEquals(game.computeHash(), game.getHash(), "game " + g + " after " + Move.toString(move));
+                game.unmake(move);
+                assertEquals(before, game.getHash(), "game " + g + " after unmaking " + Move.toString(move));
+                game.applyMove(move);
+                assertEquals(game.computeHash(), game.getHash(), "game " + g + " after applying " + Move.toString(move));
+            }
+        }
+    }
+
+    @Test
+    void hashIgnoresCardsThePlayersCannotSee()
+    {
+        GameEngine game = new GameEngine(3, 11);
+        GameEngine shuffled = game.copy();
+        shuffled.shuffleHiddenCards(new GameRandom(12));
+        assertEquals(game.getHash(), shuffled.getHash());
+    }
+
+    @Test
+    void copyHasTheSameStateAndIsIndependent()
+    {
+        for (int g = 0; g < GAMES; g++)
+        {
+            GameEngine game = new GameEngine(2 + g % 3, g);
+            GameRandom random = new GameRandom(g);
+            while (!game.isGameOver())
+            {
+                GameEngine copy = game.copy();
+                byte[] original = state(game);
+                assertArrayEquals(original, state(copy), "game " + g + " turn " + game.getTurnNumber());
+                assertEquals(game.getHash(), copy.getHash());
+                assertEquals(0, copy.getUndoDepth());
+
+                int move = randomMove(game, random);
+                copy.applyMove(move);
+                assertArrayEquals(original, state(game), "playing on the copy changed the game");
+                game.applyMove(move);
+                //The copy carries the generator, so the same move deals the same cards
+                assertArrayEquals(state(game), state(copy), "game " + g + " after " + Move.toString(move));
+            }
+        }
+    }
+
+    @Test
+    void gamesWithTheSameSeedAndMovesAreIdentical()
+    {
+        GameEngine first = new GameEngine(4, 99);
+        GameEngine second = new GameEngine(4, 99);
+        GameRandom random = new GameRandom(5);
+        while (!first.isGameOver())
+        {
+            int move = randomMove(first, random);
+            first.applyMove(move);
+            second.applyMove(move);
+        }
+        assertArrayEquals(state(first), state(second));
+    }
+
+    //The engine's full state as GameSnapshot stores it
+    static byte[] state(GameEngine game)
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshot.MAX_SIZE);
+        game.writeState(buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    static int randomMove(GameEngine game, GameRandom random)
+    {
+        int[] moves = game.legalMoves();
+        return moves[random.nextInt(moves.length)];
+    }
+}
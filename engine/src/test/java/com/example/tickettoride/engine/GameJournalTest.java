@@ -0,0 +1,128 @@
+package com.example.tickettoride.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GameJournalTest class
+ * A journaled game is recovered from its last checkpoint plus the moves after it, including after
+ * a checkpoint has cut the journal and when the last move was only partly written.
+ */
+class GameJournalTest
+{
+    private static final String[] NAMES = {"Ada", "Grace"};
+    private static final int[] COLORS = {0xFFFF0000, 0xFF0000FF};
+    //Enough moves to cross a checkpoint, with more journaled after it
+    private static final int MOVES = GameJournal.CHECKPOINT_INTERVAL + 10;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void emptyDirectoryHasNothingToRecover() throws IOException
+    {
+        assertNull(GameJournal.recover(directory));
+    }
+
+    @Test
+    void recoverReplaysTheMovesAfterTheLastCheckpoint() throws IOException
+    {
+        GameEngine game = new GameEngine(NAMES.length, 31);
+        GameJournal journal = GameJournal.start(directory, game, NAMES, COLORS);
+        play(game, journal, MOVES);
+        journal.close();
+
+        //The checkpoint cut the journal, so it only holds the moves after it
+        assertTrue(Files.size(journalFile()) < MOVES * Integer.BYTES);
+        GameSnapshot recovered = GameJournal.recover(directory);
+        assertArrayEquals(GameEngineTest.state(game), GameEngineTest.state(recovered.getEngine()));
+        assertArrayEquals(NAMES, recovered.getPlayerNames());
+    }
+
+    @Test
+    void tornLastMoveIsDropped() throws IOException
+    {
+        GameEngine game = new GameEngine(NAMES.length, 31);
+        GameJournal journal = GameJournal.start(directory, game, NAMES, COLORS);
+        play(game, journal, MOVES - 1);
+        byte[] beforeLastMove = GameEngineTest.state(game);
+        play(game, journal, 1);
+        journal.close();
+
+        //A crash in the middle of writing the last move leaves part of it behind
+        try (FileChannel channel = FileChannel.open(journalFile(), StandardOpenOption.WRITE))
+        {
+            channel.truncate(channel.size() - 2);
+        }
+        GameSnapshot recovered = GameJournal.recover(directory);
+        assertArrayEquals(beforeLastMove, GameEngineTest.state(recovered.getEngine()));
+    }
+
+    @Test
+    void checkpointHoldsOnlyTheJournaledMoves() throws IOException
+    {
+        //The journal follows the game on its own copy, so moves it hasn't been given yet stay out
+        GameEngine game = new GameEngine(NAMES.length, 33);
+        GameJournal journal = GameJournal.start(directory, game, NAMES, COLORS);
+        play(game, journal, 10);
+        byte[] journaled = GameEngineTest.state(game);
+        game.applyMove(game.legalMoves()[0]);
+        journal.checkpoint();
+        journal.close();
+        assertArrayEquals(journaled, GameEngineTest.state(GameJournal.recover(directory).getEngine()));
+    }
+
+    @Test
+    void deleteRemovesTheFiles() throws IOException
+    {
+        GameEngine game = new GameEngine(NAMES.length, 34);
+        GameJournal journal = GameJournal.start(directory, game, NAMES, COLORS);
+        play(game, journal, 5);
+        journal.delete();
+        assertFalse(Files.exists(journalFile()));
+        assertNull(GameJournal.recover(directory));
+    }
+
+    //Plays random moves on the game and journals each one
+    private static void play(GameEngine game, GameJournal journal, int moves) throws IOException
+    {
+        GameRandom random = new GameRandom(game.getTurnNumber() * 31L + game.getHash());
+        for (int i = 0; i < moves; i++)
+        {
+            assertFalse(game.isGameOver(), "the game ended before " + moves + " moves");
+            int move = drawLeaning(game, random);
+            game.applyMove(move);
+            journal.append(move);
+        }
+    }
+
+    //Mostly draws cards, so a game lasts long enough to cross a checkpoint
+    private static int drawLeaning(GameEngine game, GameRandom random)
+    {
+        int[] moves = game.legalMoves();
+        for (int move : moves)
+        {
+            if (Move.type(move) == Move.DRAW_DECK && random.nextInt(4) != 0)
+            {
+                return move;
+            }
+        }
+        return moves[random.nextInt(moves.length)];
+    }
+
+    private Path journalFile()
+    {
+        return directory.resolve("journal.log");
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.tickettoride.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * GameSnapshotTest class
+ * Saved games read back exactly as written, and damaged ones are refused rather than misread.
+ */
+class GameSnapshotTest
+{
+    private static final String[] NAMES = {"Ada", "Grace", "Linus"};
+    private static final int[] COLORS = {0xFFFF0000, 0xFF00FF00, 0xFF0000FF};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void snapshotRoundTripsTheWholeGame()
+    {
+        GameRandom random = new GameRandom(21);
+        GameEngine game = new GameEngine(NAMES.length, 21);
+        while (!game.isGameOver())
+        {
+            GameSnapshot read = GameSnapshot.read(new GameSnapshot(game, NAMES, COLORS).toBuffer());
+            assertArrayEquals(GameEngineTest.state(game), GameEngineTest.state(read.getEngine()), "turn " + game.getTurnNumber());
+            assertEquals(game.getHash(), read.getEngine().getHash());
+            assertArrayEquals(NAMES, read.getPlayerNames());
+            assertArrayEquals(COLORS, read.getPlayerColors());
+            game.applyMove(GameEngineTest.randomMove(game, random));
+        }
+    }
+
+    @Test
+    void generatorWithoutSeedRoundTrips()
+    {
+        //Split generators have no seed of their own, which the snapshot has to keep apart from a seed of -1
+        GameEngine split = new GameEngine(2, new GameRandom(4).split());
+        GameEngine seeded = new GameEngine(2, GameEngine.NONE);
+        GameEngine splitRead = GameSnapshot.read(new GameSnapshot(split, new String[] {"a", "b"}, new int[2]).toBuffer()).getEngine();
+        GameEngine seededRead = GameSnapshot.read(new GameSnapshot(seeded, new String[] {"a", "b"}, new int[2]).toBuffer()).getEngine();
+        assertEquals(split.getRandom().getSeed(), splitRead.getRandom().getSeed());
+        assertEquals(seeded.getRandom().getSeed(), seededRead.getRandom().getSeed());
+        assertEquals(GameEngine.NONE, seededRead.getRandom().getSeed().getAsLong());
+    }
+
+    @Test
+    void saveAndLoadGoThroughTheFile() throws IOException
+    {
+        GameEngine game = new GameEngine(NAMES.length, 8);
+        GameRandom random = new GameRandom(8);
+        for (int i = 0; i < 20; i++)
+        {
+            game.applyMove(GameEngineTest.randomMove(game, random));
+        }
+        Path file = directory.resolve("game" + GameSnapshot.FILE_EXTENSION);
+        new GameSnapshot(game, NAMES, COLORS).save(file);
+        GameSnapshot loaded = GameSnapshot.load(file);
+        assertArrayEquals(GameEngineTest.state(game), GameEngineTest.state(loaded.getEngine()));
+        assertArrayEquals(NAMES, loaded.getPlayerNames());
+        //Only the saved game is left, the temporary file was renamed over it
+        try (var files = Files.list(directory))
+        {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void everyFlippedByteIsCaught()
+    {
+        byte[] bytes = bytes(new GameSnapshot(new GameEngine(NAMES.length, 3), NAMES, COLORS));
+        for (int i = 0; i < bytes.length; i++)
+        {
+            byte[] damaged = bytes.clone();
+            damaged[i] ^= 0x10;
+            int position = i;
+            assertThrows(IllegalArgumentException.class, () -> GameSnapshot.read(ByteBuffer.wrap(damaged)), "byte " + position);
+        }
+    }
+
+    @Test
+    void corruptChecksumIsRefused()
+    {
+        byte[] bytes = bytes(new GameSnapshot(new GameEngine(NAMES.length, 3), NAMES, COLORS));
+        bytes[bytes.length - 1]++;
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> GameSnapshot.read(ByteBuffer.wrap(bytes)));
+        assertEquals("Saved game is damaged, its checksum doesn't match", e.getMessage());
+    }
+
+    @Test
+    void truncatedSnapshotIsRefused()
+    {
+        byte[] bytes = bytes(new GameSnapshot(new GameEngine(NAMES.length, 3), NAMES, COLORS));
+        for (int length = 0; length < bytes.length; length++)
+        {
+            ByteBuffer cut = ByteBuffer.wrap(Arrays.copyOf(bytes, length));
+            assertThrows(IllegalArgumentException.class, () -> GameSnapshot.read(cut), length + " bytes");
+        }
+    }
+
+    @Test
+    void playerDetailsMustMatchThePlayers()
+    {
+        GameEngine game = new GameEngine(2, 1);
+        assertThrows(IllegalArgumentException.class, () -> new GameSnapshot(game, NAMES, COLORS));
+    }
+
+    private static byte[] bytes(GameSnapshot snapshot)
+    {
+        ByteBuffer buffer = snapshot.toBuffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.tickettoride.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MoveGeneratorTest class
+ * The claim moves generated for grey routes, colored routes paid partly or wholly with taxis, and
+ * double routes whose other half the player already owns.
+ */
+class MoveGeneratorTest
+{
+    private static final RouteGraph GRAPH = RouteGraph.NEW_YORK;
+    private static final MoveGenerator GENERATOR = MoveGenerator.NEW_YORK;
+    private static final int BLUE = CardColor.BLUE.ordinal();
+    private static final int RED = CardColor.RED.ordinal();
+    private static final int PINK = CardColor.PINK.ordinal();
+    private static final int TAXI = CardColor.TAXI_INDEX;
+
+    @Test
+    void greyRouteTakesAnySingleColor()
+    {
+        int route = GRAPH.routeId("LowerEastSideToBrooklyn");
+        assertEquals(RouteDefinitions.GREY, GRAPH.color(route));
+        assertEquals(3, GRAPH.length(route));
+
+        assertArrayEquals(new int[] {Move.claimRoute(route, BLUE), Move.claimRoute(route, RED)},
+                claims(hand(BLUE, 3, RED, 3), route));
+        //Two colors that only add up to the length don't pay for it
+        assertArrayEquals(new int[0], claims(hand(BLUE, 2, RED, 1), route));
+    }
+
+    @Test
+    void taxisAreWildOnGreyRoutes()
+    {
+        int route = GRAPH.routeId("LowerEastSideToBrooklyn");
+        //Topped up with taxis, and once there are enough taxis they pay for it alone
+        assertArrayEquals(new int[] {Move.claimRoute(route, BLUE)}, claims(hand(BLUE, 1, TAXI, 2), route));
+        assertArrayEquals(new int[] {Move.claimRoute(route, BLUE), Move.claimRoute(route, TAXI)},
+                claims(hand(BLUE, 1, TAXI, 3), route));
+        assertArrayEquals(new int[] {Move.claimRoute(route, TAXI)}, claims(hand(TAXI, 3), route));
+    }
+
+    @Test
+    void coloredRouteTakesItsColorTopUpWithTaxis()
+    {
+        int route = GRAPH.routeId("ChelseaToSoho");
+        assertEquals(PINK, GRAPH.color(route));
+        assertEquals(4, GRAPH.length(route));
+
+        assertArrayEquals(new int[] {Move.claimRoute(route, PINK)}, claims(hand(PINK, 4), route));
+        assertArrayEquals(new int[] {Move.claimRoute(route, PINK)}, claims(hand(PINK, 1, TAXI, 3), route));
+        assertArrayEquals(new int[] {Move.claimRoute(route, PINK)}, claims(hand(TAXI, 4), route));
+        assertArrayEquals(new int[0], claims(hand(BLUE, 4, PINK, 3), route));
+    }
+
+    @Test
+    void ownHalfOfADoubleRouteBlocksTheOtherHalf()
+    {
+        int route = GRAPH.routeId("ChelseaToEmpireStateBuildingGrey0");
+        int twin = GRAPH.routeId("ChelseaToEmpireStateBuildingGrey1");
+        assertEquals(twin, GRAPH.twin(route));
+
+        RouteOwnership ownership = new RouteOwnership(GRAPH, 2);
+        ownership.claim(0, route);
+        long blocked = ownership.claimableMask(0);
+        long open = ownership.claimableMask(1);
+        assertEquals(0, blocked & (1L << twin));
+        assertEquals(0, open & (1L << route));
+        assertTrue((open & (1L << twin)) != 0, "another player may still take the other half");
+
+        Hand hand = hand(RED, 2);
+        int[] buffer = new int[Move.MAX_LEGAL_MOVES];
+        assertEquals(0, countFor(twin, buffer, GENERATOR.addClaimMoves(hand, blocked, buffer, 0)));
+        assertEquals(1, countFor(twin, buffer, GENERATOR.addClaimMoves(hand, open, buffer, 0)));
+
+        ownership.release(0, route);
+        assertTrue((ownership.claimableMask(0) & (1L << twin)) != 0);
+    }
+
+    @Test
+    void engineOffersExactlyTheGeneratedClaims()
+    {
+        //Every claim the engine allows is one the generator wrote, and bestClaimMove agrees on which routes
+        for (int g = 0; g < 40; g++)
+        {
+            GameEngine game = new GameEngine(2 + g % 3, g);
+            GameRandom random = new GameRandom(g);
+            while (!game.isGameOver())
+            {
+                long claimable = 0;
+                for (int move : game.legalMoves())
+                {
+                    if (Move.type(move) == Move.CLAIM_ROUTE)
+                    {
+                        claimable |= 1L << Move.argument(move);
+                    }
+                }
+                assertEquals(claimable, game.getClaimableRoutes());
+                for (int route = 0; route < GRAPH.routeCount(); route++)
+                {
+                    int best = game.bestClaimMove(route);
+                    assertEquals((claimable & (1L << route)) != 0, best != GameEngine.NONE, GRAPH.routeName(route));
+                    if (best != GameEngine.NONE)
+                    {
+                        assertTrue(game.isLegal(best));
+                    }
+                }
+                game.applyMove(GameEngineTest.randomMove(game, random));
+            }
+        }
+    }
+
+    //Claim moves the hand can make for one free route, in generator order
+    private static int[] claims(Hand hand, int route)
+    {
+        int[] buffer = new int[Move.MAX_LEGAL_MOVES];
+        int count = GENERATOR.addClaimMoves(hand, 1L << route, buffer, 0);
+        return Arrays.copyOf(buffer, count);
+    }
+
+    private static int countFor(int route, int[] moves, int count)
+    {
+        int found = 0;
+        for (int i = 0; i < count; i++)
+        {
+            if (Move.argument(moves[i]) == route)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    //A hand holding the given (color, amount) pairs
+    private static Hand hand(int... colorsAndAmounts)
+    {
+        Hand hand = new Hand();
+        for (int i = 0; i < colorsAndAmounts.length; i += 2)
+        {
+            hand.add(colorsAndAmounts[i], colorsAndAmounts[i + 1]);
+        }
+        return hand;
+    }
+}
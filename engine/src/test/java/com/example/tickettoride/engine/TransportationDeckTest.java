@@ -0,0 +1,122 @@
+package com.example.tickettoride.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TransportationDeckTest class
+ * Drawing, discarding and reshuffling the discards into a new draw pile, and rolling all of it back.
+ */
+class TransportationDeckTest
+{
+    @Test
+    void standardDeckHoldsEveryCard()
+    {
+        TransportationDeck deck = new TransportationDeck(new GameRandom(1));
+        assertEquals(CardColor.TAXI_INDEX * GameEngine.CARDS_PER_COLOR + GameEngine.TAXI_CARDS, deck.capacity());
+        int[] counts = new int[CardColor.COUNT];
+        while (deck.size() > 0)
+        {
+            counts[deck.draw()]++;
+        }
+        for (int color = 0; color < CardColor.TAXI_INDEX; color++)
+        {
+            assertEquals(GameEngine.CARDS_PER_COLOR, counts[color]);
+        }
+        assertEquals(GameEngine.TAXI_CARDS, counts[CardColor.TAXI_INDEX]);
+    }
+
+    @Test
+    void emptyDrawPileIsRefilledFromTheDiscards()
+    {
+        TransportationDeck deck = new TransportationDeck(new int[] {3, 2, 0, 0, 0, 0, 1}, new GameRandom(2));
+        int[] counts = new int[CardColor.COUNT];
+        for (int i = 0; i < 6; i++)
+        {
+            counts[deck.draw()]++;
+        }
+        assertEquals(0, deck.size());
+        deck.discard(0, 3);
+        deck.discard(CardColor.TAXI_INDEX);
+        assertEquals(4, deck.getDiscardCount());
+        assertTrue(deck.canDraw());
+
+        //The next draw turns the discards into the draw pile, holding exactly the discarded cards
+        int[] redrawn = new int[CardColor.COUNT];
+        redrawn[deck.draw()]++;
+        assertEquals(0, deck.getDiscardCount());
+        assertEquals(3, deck.size());
+        while (deck.size() > 0)
+        {
+            redrawn[deck.draw()]++;
+        }
+        assertArrayEquals(new int[] {3, 0, 0, 0, 0, 0, 1}, redrawn);
+
+        assertFalse(deck.canDraw());
+        assertEquals(GameEngine.NONE, deck.draw());
+    }
+
+    @Test
+    void reshuffleDependsOnTheGenerator()
+    {
+        //Same seed, same order after the reshuffle; it is the game's generator that decides it
+        assertArrayEquals(drawAfterReshuffle(5), drawAfterReshuffle(5));
+    }
+
+    @Test
+    void rollbackUndoesAReshuffle()
+    {
+        TransportationDeck deck = new TransportationDeck(new int[] {4, 4, 4, 0, 0, 0, 2}, new GameRandom(3));
+        while (deck.size() > 0)
+        {
+            deck.discard(deck.draw());
+        }
+        int[] before = piles(deck);
+        int mark = deck.mark();
+        deck.draw();
+        deck.draw();
+        deck.discard(1);
+        deck.rollback(mark);
+        assertEquals(0, deck.size());
+        assertArrayEquals(before, piles(deck));
+    }
+
+    @Test
+    void discardingMoreThanTheDeckHoldsIsRefused()
+    {
+        TransportationDeck deck = new TransportationDeck(new int[] {2, 0, 0, 0, 0, 0, 0}, new GameRandom(4));
+        deck.draw();
+        assertThrows(IllegalStateException.class, () -> deck.discard(0, 2));
+    }
+
+    private static int[] drawAfterReshuffle(long seed)
+    {
+        TransportationDeck deck = new TransportationDeck(new int[] {2, 2, 2, 2, 2, 2, 2}, new GameRandom(seed));
+        while (deck.size() > 0)
+        {
+            deck.discard(deck.draw());
+        }
+        int[] order = new int[deck.capacity()];
+        for (int i = 0; i < order.length; i++)
+        {
+            order[i] = deck.draw();
+        }
+        return order;
+    }
+
+    //Both piles, the draw pile from the top followed by the discards
+    private static int[] piles(TransportationDeck deck)
+    {
+        int[] cards = new int[deck.size() + deck.getDiscardCount()];
+        for (int i = 0; i < cards.length; i++)
+        {
+            cards[i] = deck.cardAt(i);
+        }
+        return cards;
+    }
+}
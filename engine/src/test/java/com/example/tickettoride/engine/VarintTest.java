@@ -0,0 +1,93 @@
+package com.example.tickettoride.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * VarintTest class
+ * Round trips and encoded sizes of the varints used by the save files.
+ */
+class VarintTest
+{
+    private static final int[] UNSIGNED = {0, 1, 127, 128, 300, 16383, 16384, 2097151, 2097152, Integer.MAX_VALUE};
+    private static final int[] SIGNED = {0, 1, -1, GameEngine.NONE, 63, -64, 64, -65, 1000, -1000, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+    @Test
+    void unsignedValuesRoundTrip()
+    {
+        for (int value : UNSIGNED)
+        {
+            ByteBuffer buffer = ByteBuffer.allocate(Varint.MAX_INT_BYTES);
+            Varint.putUnsigned(buffer, value);
+            buffer.flip();
+            assertEquals(value, Varint.getUnsigned(buffer));
+            assertEquals(0, buffer.remaining(), "bytes left after reading " + value);
+        }
+    }
+
+    @Test
+    void signedValuesRoundTrip()
+    {
+        for (int value : SIGNED)
+        {
+            ByteBuffer buffer = ByteBuffer.allocate(Varint.MAX_INT_BYTES);
+            Varint.putSigned(buffer, value);
+            buffer.flip();
+            assertEquals(value, Varint.getSigned(buffer));
+            assertEquals(0, buffer.remaining(), "bytes left after reading " + value);
+        }
+    }
+
+    @Test
+    void smallValuesTakeOneByte()
+    {
+        assertEquals(1, unsignedSize(0));
+        assertEquals(1, unsignedSize(127));
+        assertEquals(2, unsignedSize(128));
+        assertEquals(Varint.MAX_INT_BYTES, unsignedSize(Integer.MAX_VALUE));
+        //Zig-zag keeps NONE as short as the small positive numbers
+        ByteBuffer buffer = ByteBuffer.allocate(Varint.MAX_INT_BYTES);
+        Varint.putSigned(buffer, GameEngine.NONE);
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    void tooLongVarintIsRefused()
+    {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 1});
+        assertThrows(IllegalArgumentException.class, () -> Varint.getUnsigned(buffer));
+    }
+
+    @Test
+    void stringsRoundTrip()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        Varint.putString(buffer, "");
+        Varint.putString(buffer, "Times Square");
+        Varint.putString(buffer, "Café ✓");
+        buffer.flip();
+        assertEquals("", Varint.getString(buffer));
+        assertEquals("Times Square", Varint.getString(buffer));
+        assertEquals("Café ✓", Varint.getString(buffer));
+    }
+
+    @Test
+    void stringRunningPastTheEndIsRefused()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        Varint.putUnsigned(buffer, 50);
+        buffer.put((byte) 'x').flip();
+        assertThrows(IllegalArgumentException.class, () -> Varint.getString(buffer));
+    }
+
+    private static int unsignedSize(int value)
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(Varint.MAX_INT_BYTES);
+        Varint.putUnsigned(buffer, value);
+        return buffer.position();
+    }
+}